@@ -0,0 +1,58 @@
+package com.cosium.hal_mock_mvc_benchmarks;
+
+import com.cosium.hal_mock_mvc.Form;
+import com.cosium.hal_mock_mvc.HalMockMvc;
+import com.cosium.hal_mock_mvc.Template;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Measures the validation and submission of a {@link Form} filling every property of a template.
+ *
+ * @author Réda Housni Alaoui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormSubmitBenchmark {
+
+  @Param({"5", "50", "200"})
+  public int propertyCount;
+
+  private Template template;
+
+  @Setup
+  public void setup() throws Exception {
+    template =
+        HalMockMvc.builder(MockMvcBuilders.standaloneSetup(new SyntheticHalController()).build())
+            .baseUri("/synthetic/form?propertyCount=" + propertyCount)
+            .build()
+            .follow()
+            .templates()
+            .byKey("default");
+  }
+
+  @Benchmark
+  public ResultActions submit() throws Exception {
+    Form form = template.createForm();
+    for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+      form.withString("property" + propertyIndex, "value" + propertyIndex);
+    }
+    return form.submit();
+  }
+}
@@ -0,0 +1,55 @@
+package com.cosium.hal_mock_mvc_benchmarks;
+
+import com.cosium.hal_mock_mvc.Form;
+import com.cosium.hal_mock_mvc.HalMockMvc;
+import com.cosium.hal_mock_mvc.Template;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Measures the validation of a value against inline HAL-FORMS options.
+ *
+ * @author Réda Housni Alaoui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InlineOptionsBenchmark {
+
+  @Param({"10", "1000", "50000"})
+  public int optionCount;
+
+  private Template template;
+  private String lastValue;
+
+  @Setup
+  public void setup() throws Exception {
+    template =
+        HalMockMvc.builder(MockMvcBuilders.standaloneSetup(new SyntheticHalController()).build())
+            .baseUri("/synthetic/inline-options?optionCount=" + optionCount)
+            .build()
+            .follow()
+            .templates()
+            .byKey("default");
+    lastValue = SyntheticHalController.optionValue(optionCount - 1);
+  }
+
+  @Benchmark
+  public Form validate() throws Exception {
+    return template.createForm().withString("choice", lastValue);
+  }
+}
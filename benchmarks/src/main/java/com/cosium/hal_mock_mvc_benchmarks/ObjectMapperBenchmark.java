@@ -0,0 +1,63 @@
+package com.cosium.hal_mock_mvc_benchmarks;
+
+import com.cosium.hal_mock_mvc.HalMockMvc;
+import com.cosium.hal_mock_mvc.Template;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Measures the cost of reading HAL-FORMS templates with the {@link HalMockMvc} shared {@link
+ * tools.jackson.databind.ObjectMapper} versus a new mapper for each call.
+ *
+ * @author Réda Housni Alaoui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+  @Param({"1", "10"})
+  public int templateCount;
+
+  private MockMvc mockMvc;
+  private String baseUri;
+  private HalMockMvc halMockMvc;
+
+  @Setup
+  public void setup() {
+    mockMvc = MockMvcBuilders.standaloneSetup(new SyntheticHalController()).build();
+    baseUri = "/synthetic/templates?templateCount=%d&propertyCount=10".formatted(templateCount);
+    halMockMvc = HalMockMvc.builder(mockMvc).baseUri(baseUri).build();
+  }
+
+  @Benchmark
+  public Template sharedObjectMapper() throws Exception {
+    return halMockMvc.follow().templates().byKey("default");
+  }
+
+  @Benchmark
+  public Template objectMapperPerCall() throws Exception {
+    return HalMockMvc.builder(mockMvc)
+        .baseUri(baseUri)
+        .objectMapper(HalMockMvc.objectMapperBuilder().build())
+        .build()
+        .follow()
+        .templates()
+        .byKey("default");
+  }
+}
@@ -0,0 +1,146 @@
+package com.cosium.hal_mock_mvc_benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Serves synthetic HAL-FORMS documents whose shape is driven by request parameters.
+ *
+ * @author Réda Housni Alaoui
+ */
+@Controller
+@RequestMapping("/synthetic")
+public class SyntheticHalController {
+
+  @GetMapping("/templates")
+  public ResponseEntity<byte[]> templates(
+      @RequestParam("templateCount") int templateCount,
+      @RequestParam("propertyCount") int propertyCount) {
+
+    StringBuilder templates = new StringBuilder();
+    for (int templateIndex = 0; templateIndex < templateCount; templateIndex++) {
+      if (templateIndex > 0) {
+        templates.append(',');
+      }
+      String key = templateIndex == 0 ? "default" : "template" + templateIndex;
+      templates.append('"').append(key).append("\":{\"method\":\"POST\",\"properties\":[");
+      for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+        if (propertyIndex > 0) {
+          templates.append(',');
+        }
+        templates
+            .append("{\"name\":\"property")
+            .append(propertyIndex)
+            .append("\",\"type\":\"text\",\"required\":true,\"maxLength\":255}");
+      }
+      templates.append("]}");
+    }
+
+    String self =
+        "/synthetic/templates?templateCount=%d&propertyCount=%d"
+            .formatted(templateCount, propertyCount);
+    return halForms(
+        "{\"_links\":{\"self\":{\"href\":\"%s\"}},\"_templates\":{%s}}".formatted(self, templates));
+  }
+
+  @GetMapping("/chain/{index}")
+  public ResponseEntity<byte[]> chain(@PathVariable("index") int index) {
+    return halForms(
+        ("{\"name\":\"node%d\",\"_embedded\":{\"items\":[{\"name\":\"a\"},{\"name\":\"b\"}]},"
+                + "\"_links\":{\"self\":{\"href\":\"/synthetic/chain/%d\"},"
+                + "\"next\":{\"href\":\"/synthetic/chain/%d\"}}}")
+            .formatted(index, index, index + 1));
+  }
+
+  @GetMapping("/form")
+  public ResponseEntity<byte[]> form(@RequestParam("propertyCount") int propertyCount) {
+    StringBuilder properties = new StringBuilder();
+    for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+      if (propertyIndex > 0) {
+        properties.append(',');
+      }
+      properties
+          .append("{\"name\":\"property")
+          .append(propertyIndex)
+          .append(
+              "\",\"type\":\"text\",\"required\":true,\"maxLength\":255,\"regex\":\"^[a-z0-9]+$\"}");
+    }
+    return halFormsTemplate("/synthetic/form?propertyCount=" + propertyCount, properties);
+  }
+
+  @PutMapping("/form")
+  public ResponseEntity<Void> submitForm(@RequestBody byte[] body) {
+    return ResponseEntity.noContent().build();
+  }
+
+  @GetMapping("/inline-options")
+  public ResponseEntity<byte[]> inlineOptions(@RequestParam("optionCount") int optionCount) {
+    StringBuilder property =
+        new StringBuilder("{\"name\":\"choice\",\"options\":{\"maxItems\":1,\"inline\":");
+    appendOptions(property, optionCount);
+    property.append("}}");
+    return halFormsTemplate("/synthetic/form", property);
+  }
+
+  @GetMapping("/remote-options")
+  public ResponseEntity<byte[]> remoteOptions(@RequestParam("optionCount") int optionCount) {
+    return halFormsTemplate(
+        "/synthetic/form",
+        "{\"name\":\"choice\",\"options\":{\"maxItems\":1,\"link\":{\"href\":\"http://localhost/synthetic/options?optionCount=%d\"}}}"
+            .formatted(optionCount));
+  }
+
+  @GetMapping("/options")
+  public ResponseEntity<byte[]> options(@RequestParam("optionCount") int optionCount) {
+    StringBuilder options = new StringBuilder();
+    appendOptions(options, optionCount);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(options.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return The value of the option at the provided index
+   */
+  static String optionValue(int index) {
+    return "option" + index;
+  }
+
+  private static void appendOptions(StringBuilder builder, int optionCount) {
+    builder.append('[');
+    for (int optionIndex = 0; optionIndex < optionCount; optionIndex++) {
+      if (optionIndex > 0) {
+        builder.append(',');
+      }
+      builder
+          .append("{\"prompt\":\"Option ")
+          .append(optionIndex)
+          .append("\",\"value\":\"")
+          .append(optionValue(optionIndex))
+          .append("\"}");
+    }
+    builder.append(']');
+  }
+
+  private static ResponseEntity<byte[]> halFormsTemplate(String target, CharSequence properties) {
+    return halForms(
+        ("{\"_links\":{\"self\":{\"href\":\"%s\"}},"
+                + "\"_templates\":{\"default\":{\"method\":\"PUT\",\"properties\":[%s]}}}")
+            .formatted(target, properties));
+  }
+
+  static ResponseEntity<byte[]> halForms(String body) {
+    return ResponseEntity.ok()
+        .contentType(MediaTypes.HAL_FORMS_JSON)
+        .body(body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,57 @@
+package com.cosium.hal_mock_mvc_benchmarks;
+
+import com.cosium.hal_mock_mvc.HalMockMvc;
+import com.cosium.hal_mock_mvc.Template;
+import com.cosium.hal_mock_mvc.Templates;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Measures the fetching and parsing of HAL-FORMS documents holding an increasing number of
+ * templates.
+ *
+ * @author Réda Housni Alaoui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplatesBenchmark {
+
+  @Param({"1", "10", "50"})
+  public int templateCount;
+
+  private HalMockMvc halMockMvc;
+
+  @Setup
+  public void setup() {
+    halMockMvc =
+        HalMockMvc.builder(MockMvcBuilders.standaloneSetup(new SyntheticHalController()).build())
+            .baseUri(
+                "/synthetic/templates?templateCount=%d&propertyCount=10".formatted(templateCount))
+            .build();
+  }
+
+  @Benchmark
+  public Templates templates() throws Exception {
+    return halMockMvc.follow().templates();
+  }
+
+  @Benchmark
+  public Template templateByKey() throws Exception {
+    return halMockMvc.follow().templates().byKey("default");
+  }
+}
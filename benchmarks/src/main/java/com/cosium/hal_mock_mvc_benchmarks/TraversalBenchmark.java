@@ -0,0 +1,69 @@
+package com.cosium.hal_mock_mvc_benchmarks;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.cosium.hal_mock_mvc.HalMockMvc;
+import com.cosium.hal_mock_mvc.Request;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Measures the resolution of a chain of relations by {@link HalMockMvc.TraversalBuilder} against
+ * the same number of GET requests sent through a raw {@link MockMvc}.
+ *
+ * @author Réda Housni Alaoui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalBenchmark {
+
+  @Param({"1", "2", "5", "10"})
+  public int depth;
+
+  private MockMvc mockMvc;
+  private HalMockMvc halMockMvc;
+  private String[] relations;
+
+  @Setup
+  public void setup() {
+    mockMvc = MockMvcBuilders.standaloneSetup(new SyntheticHalController()).build();
+    halMockMvc = HalMockMvc.builder(mockMvc).baseUri("/synthetic/chain/0").build();
+    relations = Collections.nCopies(depth, "next").toArray(String[]::new);
+  }
+
+  @Benchmark
+  public Request halMockMvc() throws Exception {
+    return halMockMvc.follow(relations).request();
+  }
+
+  @Benchmark
+  public void rawMockMvc(Blackhole blackhole) throws Exception {
+    for (int index = 0; index < depth; index++) {
+      blackhole.consume(
+          mockMvc
+              .perform(get("/synthetic/chain/" + index).accept(MediaTypes.HAL_FORMS_JSON))
+              .andReturn()
+              .getResponse()
+              .getContentAsByteArray());
+    }
+  }
+}
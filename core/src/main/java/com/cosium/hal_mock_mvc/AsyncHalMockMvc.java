@@ -0,0 +1,264 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Runs the traversals of a {@link HalMockMvc} on an {@link Executor}, each of them returning a
+ * {@link CompletableFuture}. The headers and request post-processors of the {@link HalMockMvc} are
+ * applied unchanged.
+ *
+ * <p>Tasks run on virtual threads when the JVM supports them, on a cached pool of daemon threads
+ * otherwise. Thread bound state, such as a Spring Security context set by an annotation on the test
+ * method, is not propagated to those threads.
+ *
+ * <pre>{@code
+ * AsyncHalMockMvc async = halMockMvc.async().maxConcurrency(16);
+ * List<CompletableFuture<ResultActions>> futures =
+ *     ids.stream().map(id -> async.follow(Hop.relation("item").withParameter("id", id)).get())
+ *         .toList();
+ * }</pre>
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc#async()
+ */
+public class AsyncHalMockMvc {
+
+  private final HalMockMvc halMockMvc;
+  private final Executor executor;
+  @Nullable private final Semaphore permits;
+
+  AsyncHalMockMvc(HalMockMvc halMockMvc) {
+    this(halMockMvc, defaultExecutor(), null);
+  }
+
+  private AsyncHalMockMvc(HalMockMvc halMockMvc, Executor executor, @Nullable Semaphore permits) {
+    this.halMockMvc = requireNonNull(halMockMvc);
+    this.executor = requireNonNull(executor);
+    this.permits = permits;
+  }
+
+  /**
+   * @param executor The executor running the traversals
+   * @return A new {@link AsyncHalMockMvc} running its traversals on the provided executor
+   */
+  public AsyncHalMockMvc executor(Executor executor) {
+    return new AsyncHalMockMvc(halMockMvc, executor, permits);
+  }
+
+  /**
+   * @param maxConcurrency The maximum number of traversals running at the same time
+   * @return A new {@link AsyncHalMockMvc} running at most {@code maxConcurrency} traversals at the
+   *     same time. Once the limit is reached, starting a traversal, i.e. calling {@link
+   *     #supply(Scenario)} or a method of {@link AsyncTraversalBuilder} returning a {@link
+   *     CompletableFuture}, blocks the calling thread until a running one completes. No executor
+   *     thread is therefore held by a waiting traversal, but traversals must not be started from a
+   *     task of the same {@link AsyncHalMockMvc}: once every permit is held by such tasks, they
+   *     wait for each other forever.
+   */
+  public AsyncHalMockMvc maxConcurrency(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+    }
+    return new AsyncHalMockMvc(halMockMvc, executor, new Semaphore(maxConcurrency, true));
+  }
+
+  public AsyncTraversalBuilder follow(String... relations) {
+    return new AsyncTraversalBuilder().follow(relations);
+  }
+
+  public AsyncTraversalBuilder follow(Hop relation) {
+    return new AsyncTraversalBuilder().follow(relation);
+  }
+
+  /**
+   * Runs any synchronous scenario, for example a form submission, like any other asynchronous
+   * traversal. Blocks the calling thread while the {@link #maxConcurrency(int)} limit is reached.
+   */
+  public <T> CompletableFuture<T> supply(Scenario<T> scenario) {
+    requireNonNull(scenario);
+    if (permits == null) {
+      return CompletableFuture.supplyAsync(() -> run(scenario), executor);
+    }
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return CompletableFuture.failedFuture(e);
+    }
+    try {
+      return CompletableFuture.supplyAsync(
+          () -> {
+            try {
+              return run(scenario);
+            } finally {
+              permits.release();
+            }
+          },
+          executor);
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private <T> T run(Scenario<T> scenario) {
+    try {
+      return scenario.run(halMockMvc);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  /**
+   * @return The executor used when none is provided: virtual threads when the JVM supports them, a
+   *     cached pool of daemon threads otherwise
+   */
+  static Executor defaultExecutor() {
+    return DefaultExecutor.INSTANCE;
+  }
+
+  /** A synchronous scenario run against the {@link HalMockMvc} */
+  @FunctionalInterface
+  public interface Scenario<T> {
+    T run(HalMockMvc halMockMvc) throws Exception;
+  }
+
+  /** The asynchronous counterpart of {@link HalMockMvc.TraversalBuilder} */
+  public class AsyncTraversalBuilder {
+
+    private final List<Hop> hops = new ArrayList<>();
+
+    private AsyncTraversalBuilder() {}
+
+    public AsyncTraversalBuilder follow(String... relations) {
+      for (String relation : relations) {
+        hops.add(Hop.relation(relation));
+      }
+      return this;
+    }
+
+    public AsyncTraversalBuilder follow(Hop relation) {
+      hops.add(requireNonNull(relation));
+      return this;
+    }
+
+    /**
+     * @see HalMockMvc.TraversalBuilder#templates()
+     */
+    public CompletableFuture<Templates> templates() {
+      return traverse(HalMockMvc.TraversalBuilder::templates);
+    }
+
+    /**
+     * @see HalMockMvc.TraversalBuilder#get()
+     */
+    public CompletableFuture<ResultActions> get() {
+      return traverse(HalMockMvc.TraversalBuilder::get);
+    }
+
+    /**
+     * @see HalMockMvc.TraversalBuilder#post()
+     */
+    public CompletableFuture<ResultActions> post() {
+      return traverse(HalMockMvc.TraversalBuilder::post);
+    }
+
+    /**
+     * @see HalMockMvc.TraversalBuilder#post(String)
+     */
+    public CompletableFuture<ResultActions> post(String jsonContent) {
+      return traverse(traversal -> traversal.post(jsonContent));
+    }
+
+    /**
+     * @see HalMockMvc.TraversalBuilder#put()
+     */
+    public CompletableFuture<ResultActions> put() {
+      return traverse(HalMockMvc.TraversalBuilder::put);
+    }
+
+    /**
+     * @see HalMockMvc.TraversalBuilder#put(String)
+     */
+    public CompletableFuture<ResultActions> put(String jsonContent) {
+      return traverse(traversal -> traversal.put(jsonContent));
+    }
+
+    /**
+     * @see HalMockMvc.TraversalBuilder#patch()
+     */
+    public CompletableFuture<ResultActions> patch() {
+      return traverse(HalMockMvc.TraversalBuilder::patch);
+    }
+
+    /**
+     * @see HalMockMvc.TraversalBuilder#patch(String)
+     */
+    public CompletableFuture<ResultActions> patch(String jsonContent) {
+      return traverse(traversal -> traversal.patch(jsonContent));
+    }
+
+    /**
+     * @see HalMockMvc.TraversalBuilder#delete()
+     */
+    public CompletableFuture<ResultActions> delete() {
+      return traverse(HalMockMvc.TraversalBuilder::delete);
+    }
+
+    private <T> CompletableFuture<T> traverse(TraversalStep<T> step) {
+      List<Hop> traversalHops = List.copyOf(hops);
+      return supply(
+          halMockMvc -> {
+            HalMockMvc.TraversalBuilder traversal = halMockMvc.follow();
+            traversalHops.forEach(traversal::follow);
+            return step.run(traversal);
+          });
+    }
+  }
+
+  @FunctionalInterface
+  private interface TraversalStep<T> {
+    T run(HalMockMvc.TraversalBuilder traversal) throws Exception;
+  }
+
+  private static class DefaultExecutor {
+
+    private static final Executor INSTANCE = create();
+
+    private static Executor create() {
+      try {
+        return (ExecutorService)
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        return Executors.newCachedThreadPool(new DaemonThreadFactory());
+      }
+    }
+  }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "hal-mock-mvc-async-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
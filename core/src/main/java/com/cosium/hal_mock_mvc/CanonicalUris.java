@@ -0,0 +1,66 @@
+package com.cosium.hal_mock_mvc;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Computes the canonical form of URIs, allowing URIs written differently but targeting the same
+ * resource to be compared. Relative URIs are resolved against the default MockMvc origin, {@code
+ * http://localhost}.
+ *
+ * @author Réda Housni Alaoui
+ */
+class CanonicalUris {
+
+  private static final URI DEFAULT_ORIGIN = URI.create("http://localhost/");
+
+  private CanonicalUris() {}
+
+  /**
+   * @return The absolute, normalized, fragment-less form of the provided URI, with a lowercase
+   *     scheme and host and without default port. An opaque URI, like {@code mailto:john@doe.com},
+   *     or a URI without authority is returned unchanged.
+   */
+  static URI canonicalize(URI uri) {
+    URI absoluteUri = DEFAULT_ORIGIN.resolve(uri).normalize();
+    if (absoluteUri.isOpaque() || absoluteUri.getRawAuthority() == null) {
+      return absoluteUri;
+    }
+    String scheme = absoluteUri.getScheme().toLowerCase(Locale.ROOT);
+    StringBuilder canonicalUri = new StringBuilder(scheme).append("://");
+    String host = absoluteUri.getHost();
+    if (host == null) {
+      canonicalUri.append(absoluteUri.getRawAuthority());
+    } else {
+      canonicalUri.append(host.toLowerCase(Locale.ROOT));
+      int port = absoluteUri.getPort();
+      if (port != -1 && !isDefaultPort(scheme, port)) {
+        canonicalUri.append(':').append(port);
+      }
+    }
+    String path = absoluteUri.getRawPath();
+    canonicalUri.append(path == null || path.isEmpty() ? "/" : path);
+    String query = absoluteUri.getRawQuery();
+    if (query != null) {
+      canonicalUri.append('?').append(query);
+    }
+    return URI.create(canonicalUri.toString());
+  }
+
+  private static boolean isDefaultPort(String scheme, int port) {
+    return ("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443);
+  }
+
+  /**
+   * @return True if both canonical URIs share the same scheme, host and port. An opaque URI has no
+   *     origin and is never of the same origin as another URI.
+   */
+  static boolean isSameOrigin(URI canonicalUri, URI otherCanonicalUri) {
+    return !canonicalUri.isOpaque()
+        && !otherCanonicalUri.isOpaque()
+        && Objects.equals(canonicalUri.getScheme(), otherCanonicalUri.getScheme())
+        && Objects.equals(canonicalUri.getHost(), otherCanonicalUri.getHost())
+        && canonicalUri.getPort() == otherCanonicalUri.getPort();
+  }
+}
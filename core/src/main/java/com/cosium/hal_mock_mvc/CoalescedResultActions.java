@@ -0,0 +1,61 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * The view of one caller over a {@link SingleFlight.Flight} shared by identical requests
+ *
+ * @author Réda Housni Alaoui
+ */
+class CoalescedResultActions implements ResultActions {
+
+  private final SingleFlight.Flight flight;
+
+  CoalescedResultActions(SingleFlight.Flight flight) {
+    this.flight = requireNonNull(flight);
+  }
+
+  @Override
+  public ResultActions andExpect(ResultMatcher matcher) throws Exception {
+    matcher.match(flight.result());
+    return this;
+  }
+
+  @Override
+  public ResultActions andDo(ResultHandler handler) throws Exception {
+    handler.handle(flight.result());
+    return this;
+  }
+
+  @Override
+  public MvcResult andReturn() {
+    return flight.result();
+  }
+
+  /**
+   * @return The links of the shared response having the provided relation, parsed once per relation
+   *     for all the callers
+   */
+  List<Link> links(String relationName, LinkDiscoverer linkDiscoverer) {
+    return flight
+        .linksByRelation()
+        .computeIfAbsent(
+            relationName,
+            name ->
+                linkDiscoverer
+                    .findLinksWithRel(
+                        name,
+                        new ByteArrayInputStream(
+                            flight.result().getResponse().getContentAsByteArray()))
+                    .toList());
+  }
+}
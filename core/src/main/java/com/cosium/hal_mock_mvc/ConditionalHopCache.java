@@ -0,0 +1,128 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * A cache of the responses fetched by the hops of {@link HalMockMvc.TraversalBuilder}, revalidated
+ * with conditional GET requests. When a hop response carried an {@code ETag} or a {@code
+ * Last-Modified} header, the next request to the same URI is sent with {@code If-None-Match} or
+ * {@code If-Modified-Since}. On {@code 304 Not Modified}, the links parsed from the cached response
+ * are reused.
+ *
+ * <p>An entry is keyed by the canonical form of the fetched URI and the headers of the {@link
+ * HalMockMvc}. Since every hop is revalidated by the server, non-GET requests do not need to
+ * invalidate the cache. Contrary to {@link TraversalCache}, the server is still called for each
+ * hop.
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc.Builder#conditionalHopCache(ConditionalHopCache)
+ */
+public class ConditionalHopCache {
+
+  private final Map<Key, Entry> entryByKey = new ConcurrentHashMap<>();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * @return The number of hops answered with {@code 304 Not Modified}
+   */
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return The number of hops answered with a full response
+   */
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /** Removes all entries from the cache */
+  public void invalidateAll() {
+    entryByKey.clear();
+  }
+
+  @Nullable Entry get(URI uri, HttpHeaders headers) {
+    return entryByKey.get(new Key(CanonicalUris.canonicalize(uri), headers));
+  }
+
+  void recordNotModified() {
+    hitCount.incrementAndGet();
+  }
+
+  /**
+   * Stores the response if it carries a validator, removes any previous entry otherwise.
+   *
+   * @return The stored entry, or null if the response carries no validator
+   */
+  @Nullable Entry put(URI uri, HttpHeaders headers, MockHttpServletResponse response) {
+    missCount.incrementAndGet();
+    Key key = new Key(CanonicalUris.canonicalize(uri), HttpHeaders.copyOf(headers));
+    String eTag = response.getHeader(HttpHeaders.ETAG);
+    String lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+    if (eTag == null && lastModified == null) {
+      entryByKey.remove(key);
+      return null;
+    }
+    Entry entry = new Entry(eTag, lastModified, response.getContentAsByteArray());
+    entryByKey.put(key, entry);
+    return entry;
+  }
+
+  private record Key(URI uri, HttpHeaders headers) {}
+
+  static class Entry {
+
+    @Nullable private final String eTag;
+    @Nullable private final String lastModified;
+    private final byte[] content;
+    private final Map<String, List<Link>> linksByRelation = new ConcurrentHashMap<>();
+
+    private Entry(@Nullable String eTag, @Nullable String lastModified, byte[] content) {
+      this.eTag = eTag;
+      this.lastModified = lastModified;
+      this.content = requireNonNull(content);
+    }
+
+    int contentLength() {
+      return content.length;
+    }
+
+    /**
+     * @return The headers turning a GET request into a conditional one
+     */
+    HttpHeaders conditionalHeaders() {
+      HttpHeaders headers = new HttpHeaders();
+      if (eTag != null) {
+        headers.set(HttpHeaders.IF_NONE_MATCH, eTag);
+      }
+      if (lastModified != null) {
+        headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+      }
+      return headers;
+    }
+
+    /**
+     * @return The links of the cached response having the provided relation, parsed once per
+     *     relation
+     */
+    List<Link> links(String relationName, LinkDiscoverer linkDiscoverer) {
+      return linksByRelation.computeIfAbsent(
+          relationName,
+          name ->
+              linkDiscoverer.findLinksWithRel(name, new ByteArrayInputStream(content)).toList());
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The result of a {@link HalCrawler} run: every visited endpoint, in breadth-first order, and the
+ * graph of relations between them.
+ *
+ * @author Réda Housni Alaoui
+ */
+public class CrawlReport {
+
+  private final List<Endpoint> endpoints;
+  private final Map<URI, Endpoint> endpointByUri;
+  private final List<Relation> relations;
+
+  CrawlReport(List<Endpoint> endpoints, List<Relation> relations) {
+    this.endpoints = List.copyOf(endpoints);
+    this.endpointByUri =
+        Collections.unmodifiableMap(
+            this.endpoints.stream()
+                .collect(
+                    Collectors.toMap(
+                        Endpoint::uri,
+                        Function.identity(),
+                        (first, second) -> first,
+                        LinkedHashMap::new)));
+    this.relations = List.copyOf(relations);
+  }
+
+  /**
+   * @return The visited endpoints, in breadth-first order
+   */
+  public List<Endpoint> endpoints() {
+    return endpoints;
+  }
+
+  /**
+   * @param uri The canonical URI of the endpoint
+   */
+  public Optional<Endpoint> endpoint(URI uri) {
+    return Optional.ofNullable(endpointByUri.get(uri));
+  }
+
+  /**
+   * @return Every relation found in the {@code _links} of the visited endpoints
+   */
+  public List<Relation> relations() {
+    return relations;
+  }
+
+  /**
+   * @return The endpoints that did not answer with a 2xx or 3xx status, or that could not be fully
+   *     read
+   */
+  public List<Endpoint> failures() {
+    return endpoints.stream().filter(endpoint -> !endpoint.succeeded()).toList();
+  }
+
+  /**
+   * @param uri The canonical URI of the endpoint
+   * @param depth The number of relations followed from the base URI to reach the endpoint
+   * @param status The HTTP status of the response, or 0 if the request could not be performed
+   * @param latency The time spent fetching the endpoint
+   * @param responseSize The size in bytes of the response body
+   * @param templateKeys The keys of the HAL-FORMS templates exposed by the endpoint
+   * @param errors The problems met while fetching or reading the endpoint
+   */
+  public record Endpoint(
+      URI uri,
+      int depth,
+      int status,
+      Duration latency,
+      int responseSize,
+      List<String> templateKeys,
+      List<String> errors) {
+
+    public Endpoint {
+      requireNonNull(uri);
+      requireNonNull(latency);
+      templateKeys = List.copyOf(templateKeys);
+      errors = List.copyOf(errors);
+    }
+
+    public boolean succeeded() {
+      return status >= 200 && status < 400 && errors.isEmpty();
+    }
+  }
+
+  /**
+   * @param source The canonical URI of the endpoint exposing the relation
+   * @param name The relation name
+   * @param href The raw link href
+   * @param target The canonical URI the relation points to, or null if the link is templated or
+   *     targets another origin than the base URI, and was therefore not followed
+   */
+  public record Relation(URI source, String name, String href, @Nullable URI target) {
+
+    public Relation {
+      requireNonNull(source);
+      requireNonNull(name);
+      requireNonNull(href);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.AbstractMockHttpServletRequestBuilder;
+
+/**
+ * Wraps each request a {@link HalMockMvc} dispatches to {@link
+ * org.springframework.test.web.servlet.MockMvc}, including the requests emitted to follow
+ * redirects.
+ *
+ * <p>An interceptor usually calls {@link Chain#proceed(Execution)} and returns its result, after
+ * observing or customizing the execution. It may also short-circuit the dispatch by returning a
+ * result without proceeding.
+ *
+ * <pre>{@code
+ * HalMockMvc.builder(mockMvc)
+ *     .addExecutionInterceptor(
+ *         (execution, chain) -> {
+ *           long start = System.nanoTime();
+ *           try {
+ *             return chain.proceed(execution);
+ *           } finally {
+ *             log(execution.kind(), execution.uri(), System.nanoTime() - start);
+ *           }
+ *         })
+ *     .build();
+ * }</pre>
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc.Builder#addExecutionInterceptor(ExecutionInterceptor)
+ */
+@FunctionalInterface
+public interface ExecutionInterceptor {
+
+  /**
+   * @param execution The request about to be dispatched
+   * @param chain The rest of the interceptor chain, ending with the dispatch to {@link
+   *     org.springframework.test.web.servlet.MockMvc}
+   * @return The result of the execution
+   */
+  ResultActions intercept(Execution execution, Chain chain) throws Exception;
+
+  /** The remaining interceptors followed by the actual dispatch */
+  @FunctionalInterface
+  interface Chain {
+    ResultActions proceed(Execution execution) throws Exception;
+  }
+
+  /**
+   * A request about to be dispatched.
+   *
+   * @param kind The reason of the request
+   * @param httpMethod The method of the request
+   * @param uri The URI targeted by the request
+   * @param requestBuilder The builder of the request. Any customization applies to the dispatched
+   *     request.
+   */
+  record Execution(
+      RequestKind kind,
+      HttpMethod httpMethod,
+      URI uri,
+      AbstractMockHttpServletRequestBuilder<?> requestBuilder) {
+
+    public Execution {
+      requireNonNull(kind);
+      requireNonNull(httpMethod);
+      requireNonNull(uri);
+      requireNonNull(requestBuilder);
+    }
+  }
+}
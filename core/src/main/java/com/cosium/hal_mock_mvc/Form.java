@@ -2,15 +2,18 @@ package com.cosium.hal_mock_mvc;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.jspecify.annotations.Nullable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.ObjectMapper;
 
 /**
@@ -22,7 +25,7 @@ public class Form {
   private final ObjectMapper objectMapper;
   private final Template template;
 
-  private final Map<String, ValidatedFormProperty<?>> propertyByName = new HashMap<>();
+  private final Map<String, ValidatedFormProperty<?>> propertyByName = new LinkedHashMap<>();
 
   Form(RequestExecutor requestExecutor, ObjectMapper objectMapper, Template template) {
     this.requestExecutor = requireNonNull(requestExecutor);
@@ -135,6 +138,14 @@ public class Form {
 
   /** Submits the form */
   public ResultActions submit() throws Exception {
+    JfrEvents.FormSubmissionEvent event = new JfrEvents.FormSubmissionEvent();
+    event.begin();
+    ResultActions resultActions = doSubmit();
+    event.commit(template.key(), template.target(), resultActions);
+    return resultActions;
+  }
+
+  private ResultActions doSubmit() throws Exception {
     String contentType = template.representation().contentType();
     if (!MediaType.APPLICATION_JSON_VALUE.equals(contentType)) {
       throw new UnsupportedOperationException(
@@ -142,23 +153,7 @@ public class Form {
               .formatted(contentType, MediaType.APPLICATION_JSON_VALUE));
     }
 
-    List<TemplateProperty> templateProperties =
-        template.representation().propertyByName().values().stream()
-            .map(
-                propertyRepresentation ->
-                    new TemplateProperty(requestExecutor, objectMapper, propertyRepresentation))
-            .toList();
-
-    Map<String, Object> payload = new HashMap<>();
-
-    templateProperties.forEach(
-        property -> {
-          Object defaultValue = property.defaultValue().orElse(null);
-          if (defaultValue == null) {
-            return;
-          }
-          payload.put(property.name(), defaultValue);
-        });
+    TemplateValidationPlan validationPlan = template.representation().validationPlan();
 
     List<String> expectedBadRequestReasons = new ArrayList<>();
 
@@ -167,19 +162,17 @@ public class Form {
         .forEach(
             formProperty ->
                 formProperty
-                    .populateRequestPayload(payload)
                     .serverSideVerifiableErrorMessage()
                     .ifPresent(expectedBadRequestReasons::add));
 
-    templateProperties.stream()
-        .filter(TemplateProperty::isRequired)
+    validationPlan.requiredProperties().stream()
         .map(TemplateProperty::name)
-        .filter(propertyName -> payload.get(propertyName) == null)
+        .filter(propertyName -> payloadValue(validationPlan, propertyName) == null)
         .findFirst()
         .map("Property '%s' is required but is missing"::formatted)
         .ifPresent(expectedBadRequestReasons::add);
 
-    ResultActions resultActions = template.submit(objectMapper.writeValueAsString(payload));
+    ResultActions resultActions = template.submitContent(writePayload(validationPlan));
     if (expectedBadRequestReasons.isEmpty()) {
       return resultActions;
     }
@@ -193,6 +186,46 @@ public class Form {
             .formatted(String.join(",", expectedBadRequestReasons), status));
   }
 
+  private @Nullable Object payloadValue(
+      TemplateValidationPlan validationPlan, String propertyName) {
+    ValidatedFormProperty<?> formProperty = propertyByName.get(propertyName);
+    if (formProperty != null) {
+      return formProperty.property().payloadValue();
+    }
+    return validationPlan.defaultValueByName().get(propertyName);
+  }
+
+  /**
+   * Writes the template properties in declaration order, each one holding either its form value or
+   * its default value, followed by the undeclared form properties in insertion order. A new buffer
+   * is used for each payload since the request keeps a reference to the returned bytes.
+   */
+  private byte[] writePayload(TemplateValidationPlan validationPlan) {
+    ByteArrayOutputStream payloadBuffer = new ByteArrayOutputStream();
+    try (JsonGenerator generator = objectMapper.createGenerator(payloadBuffer)) {
+      generator.writeStartObject();
+      for (String propertyName : validationPlan.propertyNames()) {
+        ValidatedFormProperty<?> formProperty = propertyByName.get(propertyName);
+        if (formProperty != null) {
+          generator.writePOJOProperty(propertyName, formProperty.property().payloadValue());
+          continue;
+        }
+        Object defaultValue = validationPlan.defaultValueByName().get(propertyName);
+        if (defaultValue != null) {
+          generator.writePOJOProperty(propertyName, defaultValue);
+        }
+      }
+      for (ValidatedFormProperty<?> formProperty : propertyByName.values()) {
+        FormProperty<?> property = formProperty.property();
+        if (validationPlan.property(property.name()).isEmpty()) {
+          generator.writePOJOProperty(property.name(), property.payloadValue());
+        }
+      }
+      generator.writeEndObject();
+    }
+    return payloadBuffer.toByteArray();
+  }
+
   private ValidatedFormProperty<?> validate(
       FormProperty<?> property, PropertyValidationOption... validationOptions) throws Exception {
     Set<PropertyValidationOption> validationOptionSet =
@@ -200,9 +233,9 @@ public class Form {
     if (validationOptionSet.contains(PropertyValidationOption.Immediate.DO_NOT_FAIL_IF_NOT_VALID)) {
       return ValidatedFormProperty.markAsValid(property);
     }
-    TemplatePropertyRepresentation representation =
-        template.representation().propertyByName().get(property.name());
-    if (representation == null) {
+    TemplateProperty templateProperty =
+        template.representation().validationPlan().property(property.name()).orElse(null);
+    if (templateProperty == null) {
       if (!validationOptionSet.contains(
           PropertyValidationOption.Immediate.DO_NOT_FAIL_IF_NOT_DECLARED)) {
         throw new AssertionError("No property '%s' found.".formatted(property.name()));
@@ -210,14 +243,23 @@ public class Form {
       return ValidatedFormProperty.markAsValid(property);
     }
 
-    if (representation.readOnly()
+    if (templateProperty.isReadOnly()
         && !validationOptionSet.contains(
             PropertyValidationOption.Immediate.DO_NOT_FAIL_IF_DECLARED_READ_ONLY)) {
       throw new AssertionError(
           "Cannot set value for read-only property '%s'".formatted(property.name()));
     }
+    Metrics metrics = requestExecutor.metrics();
+    long start = metrics.start();
     ValidatedFormProperty<?> validatedFormProperty =
-        new TemplateProperty(requestExecutor, objectMapper, representation).validate(property);
+        templateProperty.validate(property, requestExecutor, objectMapper);
+    metrics.record(
+        MetricsListener.Phase.FORM_VALIDATION,
+        null,
+        template.target(),
+        property.name(),
+        metrics.elapsedSince(start),
+        0);
     ValidatedFormProperty.ValidationError firstValidationError =
         validatedFormProperty.firstValidationError();
     if (firstValidationError != null && !firstValidationError.serverSideVerifiable()) {
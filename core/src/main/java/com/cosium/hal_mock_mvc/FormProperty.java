@@ -3,9 +3,8 @@ package com.cosium.hal_mock_mvc;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import org.jspecify.annotations.Nullable;
 
 /**
  * @author Réda Housni Alaoui
@@ -21,54 +20,45 @@ record FormProperty<T>(Class<T> valueType, String name, List<T> values, boolean
     values = values.stream().filter(Objects::nonNull).toList();
   }
 
-  public void populateRequestPayload(Map<String, Object> requestPayload) {
-    Object value;
+  /**
+   * @return The value to write in the request payload
+   */
+  public @Nullable Object payloadValue() {
     if (array) {
-      value = values;
-    } else {
-      value = values.stream().findFirst().orElse(null);
+      return values;
     }
-    requestPayload.put(name, value);
+    return firstValue();
   }
 
   public boolean isNumberValueType() {
-    return Set.of(Integer.class, Long.class, Double.class).contains(valueType);
+    return Integer.class.equals(valueType)
+        || Long.class.equals(valueType)
+        || Double.class.equals(valueType);
   }
 
   public boolean isBooleanValueType() {
     return Boolean.class.equals(valueType);
   }
 
-  public List<Double> toDoubleValues() {
+  public boolean isStringValueType() {
+    return String.class.equals(valueType);
+  }
+
+  public @Nullable T firstValue() {
+    if (values.isEmpty()) {
+      return null;
+    }
+    return values.get(0);
+  }
+
+  public @Nullable Double firstDoubleValue() {
     if (!isNumberValueType()) {
       throw new IllegalArgumentException("%s is not a number type".formatted(valueType));
     }
-    if (Integer.class.equals(valueType)) {
-      return values.stream()
-          .map(Integer.class::cast)
-          .map(
-              integer -> {
-                if (integer == null) {
-                  return null;
-                }
-                return integer.doubleValue();
-              })
-          .toList();
-    } else if (Long.class.equals(valueType)) {
-      return values.stream()
-          .map(Long.class::cast)
-          .map(
-              aLong -> {
-                if (aLong == null) {
-                  return null;
-                }
-                return aLong.doubleValue();
-              })
-          .toList();
-    } else if (Double.class.equals(valueType)) {
-      return values.stream().map(Double.class::cast).toList();
-    } else {
-      throw new IllegalArgumentException("Unexpected value type %s".formatted(valueType));
+    T firstValue = firstValue();
+    if (firstValue == null) {
+      return null;
     }
+    return ((Number) firstValue).doubleValue();
   }
 }
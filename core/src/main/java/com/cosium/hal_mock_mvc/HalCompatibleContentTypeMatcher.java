@@ -3,7 +3,10 @@ package com.cosium.hal_mock_mvc;
 import static com.cosium.hal_mock_mvc.OrMatcher.anyOf;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultMatcher;
 
@@ -18,6 +21,23 @@ class HalCompatibleContentTypeMatcher implements ResultMatcher {
     return new HalCompatibleContentTypeMatcher();
   }
 
+  /**
+   * @return True if the provided content type is one of the HAL media types
+   */
+  static boolean isCompatibleWithHal(@Nullable String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    MediaType mediaType;
+    try {
+      mediaType = MediaType.parseMediaType(contentType);
+    } catch (InvalidMediaTypeException e) {
+      return false;
+    }
+    return MediaTypes.HAL_FORMS_JSON.equalsTypeAndSubtype(mediaType)
+        || MediaTypes.HAL_JSON.equalsTypeAndSubtype(mediaType);
+  }
+
   @Override
   public void match(MvcResult result) throws Exception {
     anyOf(
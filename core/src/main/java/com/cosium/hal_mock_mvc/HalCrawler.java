@@ -0,0 +1,284 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Walks breadth-first every {@code _links} relation reachable from the base URI of a {@link
+ * HalMockMvc}. Each level of the walk is fetched in parallel by a bounded pool of workers.
+ *
+ * <p>Endpoints are deduplicated by canonical URI: relative hrefs are resolved against {@code
+ * http://localhost}, scheme and host are lower-cased, default ports and fragments are dropped and
+ * paths are normalized. Templated links and links to another origin than the base URI, like {@code
+ * mailto:} links or links to another host, are reported but not followed. The {@code _templates}
+ * section of each visited endpoint is read, and any template that cannot be parsed is reported as
+ * an error of that endpoint.
+ *
+ * <pre>{@code
+ * CrawlReport report = halMockMvc.crawl().maxDepth(5).run();
+ * assertThat(report.failures()).isEmpty();
+ * }</pre>
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc#crawl()
+ */
+public class HalCrawler {
+
+  private static final String LINKS = "_links";
+  private static final String TEMPLATES = "_templates";
+  private static final String CURIES = "curies";
+
+  private final HalMockMvc halMockMvc;
+  private final ObjectMapper objectMapper;
+  private final URI baseUri;
+  private int maxDepth = Integer.MAX_VALUE;
+  private int maxConcurrency = Runtime.getRuntime().availableProcessors();
+  @Nullable private Executor executor;
+
+  HalCrawler(HalMockMvc halMockMvc, ObjectMapper objectMapper) {
+    this.halMockMvc = requireNonNull(halMockMvc);
+    this.objectMapper = requireNonNull(objectMapper);
+    this.baseUri = CanonicalUris.canonicalize(URI.create(halMockMvc.baseUri()));
+  }
+
+  /**
+   * @param maxDepth The maximum number of relations followed from the base URI. 0 only visits the
+   *     base URI. Unlimited by default.
+   */
+  public HalCrawler maxDepth(int maxDepth) {
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException("maxDepth must not be negative");
+    }
+    this.maxDepth = maxDepth;
+    return this;
+  }
+
+  /**
+   * @param maxConcurrency The maximum number of endpoints fetched at the same time. Defaults to the
+   *     number of available processors.
+   */
+  public HalCrawler maxConcurrency(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+    }
+    this.maxConcurrency = maxConcurrency;
+    return this;
+  }
+
+  /**
+   * @param executor The executor running the workers. Defaults to the {@link AsyncHalMockMvc}
+   *     executor.
+   */
+  public HalCrawler executor(Executor executor) {
+    this.executor = requireNonNull(executor);
+    return this;
+  }
+
+  public CrawlReport run() throws Exception {
+    AsyncHalMockMvc async = halMockMvc.async().maxConcurrency(maxConcurrency);
+    if (executor != null) {
+      async = async.executor(executor);
+    }
+
+    Set<URI> discoveredUris = new HashSet<>();
+    discoveredUris.add(baseUri);
+    List<URI> frontier = List.of(baseUri);
+
+    List<CrawlReport.Endpoint> endpoints = new ArrayList<>();
+    List<CrawlReport.Relation> relations = new ArrayList<>();
+    for (int depth = 0; !frontier.isEmpty(); depth++) {
+      int frontierDepth = depth;
+      List<CompletableFuture<Visit>> visits = new ArrayList<>();
+      for (URI uri : frontier) {
+        visits.add(async.supply(mvc -> visit(mvc.requestExecutor(), uri, frontierDepth)));
+      }
+
+      List<URI> nextFrontier = new ArrayList<>();
+      for (CompletableFuture<Visit> futureVisit : visits) {
+        Visit visit = join(futureVisit);
+        endpoints.add(visit.endpoint());
+        relations.addAll(visit.relations());
+        if (depth >= maxDepth) {
+          continue;
+        }
+        for (CrawlReport.Relation relation : visit.relations()) {
+          URI target = relation.target();
+          if (target != null && discoveredUris.add(target)) {
+            nextFrontier.add(target);
+          }
+        }
+      }
+      frontier = nextFrontier;
+    }
+    return new CrawlReport(endpoints, relations);
+  }
+
+  private static <T> T join(CompletableFuture<T> future) throws Exception {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception exception) {
+        throw exception;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private Visit visit(RequestExecutor requestExecutor, URI uri, int depth) {
+    List<String> errors = new ArrayList<>();
+    List<String> templateKeys = new ArrayList<>();
+    List<CrawlReport.Relation> relations = new ArrayList<>();
+
+    long start = System.nanoTime();
+    MockHttpServletResponse response;
+    try {
+      response = requestExecutor.fetchRelations(uri).andReturn().getResponse();
+    } catch (Exception e) {
+      errors.add("Request failed: " + e);
+      CrawlReport.Endpoint endpoint =
+          new CrawlReport.Endpoint(
+              uri, depth, 0, Duration.ofNanos(System.nanoTime() - start), 0, templateKeys, errors);
+      return new Visit(endpoint, relations);
+    }
+    Duration latency = Duration.ofNanos(System.nanoTime() - start);
+
+    byte[] body = response.getContentAsByteArray();
+    if (HalCompatibleContentTypeMatcher.isCompatibleWithHal(response.getContentType())) {
+      try {
+        readBody(uri, body, relations, templateKeys, errors);
+      } catch (JacksonException e) {
+        errors.add("Unreadable HAL representation: " + e.getOriginalMessage());
+      }
+    }
+
+    CrawlReport.Endpoint endpoint =
+        new CrawlReport.Endpoint(
+            uri, depth, response.getStatus(), latency, body.length, templateKeys, errors);
+    return new Visit(endpoint, relations);
+  }
+
+  private void readBody(
+      URI uri,
+      byte[] body,
+      List<CrawlReport.Relation> relations,
+      List<String> templateKeys,
+      List<String> errors) {
+    try (JsonParser parser = objectMapper.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return;
+      }
+      String propertyName;
+      while ((propertyName = parser.nextName()) != null) {
+        JsonToken valueToken = parser.nextToken();
+        if (valueToken != JsonToken.START_OBJECT) {
+          parser.skipChildren();
+        } else if (LINKS.equals(propertyName)) {
+          readLinks(uri, parser, relations, errors);
+        } else if (TEMPLATES.equals(propertyName)) {
+          readTemplates(parser, templateKeys, errors);
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+  }
+
+  private void readLinks(
+      URI uri, JsonParser parser, List<CrawlReport.Relation> relations, List<String> errors) {
+    String relationName;
+    while ((relationName = parser.nextName()) != null) {
+      JsonToken valueToken = parser.nextToken();
+      if (CURIES.equals(relationName)) {
+        parser.skipChildren();
+      } else if (valueToken == JsonToken.START_OBJECT) {
+        readLink(uri, relationName, parser, relations, errors);
+      } else if (valueToken == JsonToken.START_ARRAY) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          if (parser.currentToken() == JsonToken.START_OBJECT) {
+            readLink(uri, relationName, parser, relations, errors);
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private void readLink(
+      URI uri,
+      String relationName,
+      JsonParser parser,
+      List<CrawlReport.Relation> relations,
+      List<String> errors) {
+    String href = null;
+    boolean templated = false;
+    String attributeName;
+    while ((attributeName = parser.nextName()) != null) {
+      JsonToken valueToken = parser.nextToken();
+      if (valueToken.isStructStart()) {
+        parser.skipChildren();
+      } else if ("href".equals(attributeName)) {
+        href = parser.getValueAsString();
+      } else if ("templated".equals(attributeName)) {
+        templated = parser.getValueAsBoolean();
+      }
+    }
+    if (href == null) {
+      errors.add("Relation '%s' has no href".formatted(relationName));
+      return;
+    }
+    if (templated) {
+      relations.add(new CrawlReport.Relation(uri, relationName, href, null));
+      return;
+    }
+    URI target;
+    try {
+      target = CanonicalUris.canonicalize(uri.resolve(URI.create(href)));
+    } catch (IllegalArgumentException e) {
+      errors.add("Relation '%s' has an invalid href '%s'".formatted(relationName, href));
+      return;
+    }
+    if (!CanonicalUris.isSameOrigin(target, baseUri)) {
+      target = null;
+    }
+    relations.add(new CrawlReport.Relation(uri, relationName, href, target));
+  }
+
+  private void readTemplates(JsonParser parser, List<String> templateKeys, List<String> errors) {
+    String templateKey;
+    while ((templateKey = parser.nextName()) != null) {
+      parser.nextToken();
+      templateKeys.add(templateKey);
+      JsonNode template = parser.readValueAsTree();
+      try {
+        objectMapper.treeToValue(template, TemplateRepresentation.class);
+      } catch (JacksonException e) {
+        errors.add("Template '%s' is invalid: %s".formatted(templateKey, e.getOriginalMessage()));
+      }
+    }
+  }
+
+  private record Visit(CrawlReport.Endpoint endpoint, List<CrawlReport.Relation> relations) {}
+}
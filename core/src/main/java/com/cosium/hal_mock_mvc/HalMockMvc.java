@@ -3,19 +3,29 @@ package com.cosium.hal_mock_mvc;
 import static com.cosium.hal_mock_mvc.HalCompatibleContentTypeMatcher.contentTypeIsCompatibleWithHal;
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.client.LinkDiscoverer;
-import org.springframework.hateoas.mediatype.hal.forms.HalFormsLinkDiscoverer;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  *
@@ -56,30 +66,103 @@ import org.springframework.test.web.servlet.request.RequestPostProcessor;
 public class HalMockMvc {
 
   public static final String DEFAULT_BASE_URI = "/";
+  public static final int DEFAULT_MAX_REDIRECTS = 20;
+
+  private static final ObjectMapper DEFAULT_OBJECT_MAPPER = objectMapperBuilder().build();
 
   private final MockMvc mockMvc;
   private final String baseUri;
   private final List<RequestPostProcessor> requestPostProcessors;
   private final List<RelationsRequestPostProcessor> relationsRequestPostProcessors;
+  private final List<ExecutionInterceptor> executionInterceptors;
+  private final List<MetricsListener> metricsListeners;
+  private final Metrics metrics;
   private final HttpHeaders headers;
+  @Nullable private final TraversalCache traversalCache;
+  @Nullable private final RemoteOptionsCache remoteOptionsCache;
+  private final int maxRedirects;
+  private final boolean reuseCreatedResponseBody;
+  @Nullable private final RedirectCache redirectCache;
+  @Nullable private final SingleFlight singleFlight;
+  @Nullable private final ConditionalHopCache conditionalHopCache;
+  private final LinkDiscoverer linkDiscoverer;
+  private final ObjectMapper objectMapper;
+  private final RequestExecutor requestExecutor;
+
+  /**
+   * The response of the request that created {@link #baseUri}, holding its representation, used
+   * once by the first traversal needing it
+   */
+  private final AtomicReference<@Nullable ResultActions> createdResourceResult =
+      new AtomicReference<>();
 
   private HalMockMvc(
       MockMvc mockMvc,
       String baseUri,
       List<RequestPostProcessor> requestPostProcessors,
       List<RelationsRequestPostProcessor> relationsRequestPostProcessors,
-      HttpHeaders headers) {
+      List<ExecutionInterceptor> executionInterceptors,
+      List<MetricsListener> metricsListeners,
+      HttpHeaders headers,
+      @Nullable TraversalCache traversalCache,
+      @Nullable RemoteOptionsCache remoteOptionsCache,
+      int maxRedirects,
+      boolean reuseCreatedResponseBody,
+      @Nullable RedirectCache redirectCache,
+      @Nullable SingleFlight singleFlight,
+      @Nullable ConditionalHopCache conditionalHopCache,
+      LinkDiscoverer linkDiscoverer,
+      ObjectMapper objectMapper) {
     this.mockMvc = requireNonNull(mockMvc);
     this.baseUri = requireNonNull(baseUri);
     this.requestPostProcessors = List.copyOf(requestPostProcessors);
-    this.relationsRequestPostProcessors = requireNonNull(relationsRequestPostProcessors);
-    this.headers = HttpHeaders.copyOf(headers);
+    this.relationsRequestPostProcessors = List.copyOf(relationsRequestPostProcessors);
+    this.executionInterceptors = List.copyOf(executionInterceptors);
+    this.metricsListeners = List.copyOf(metricsListeners);
+    this.metrics = Metrics.of(this.metricsListeners);
+    this.headers = HttpHeaders.readOnlyHttpHeaders(HttpHeaders.copyOf(headers));
+    this.traversalCache = traversalCache;
+    this.remoteOptionsCache = remoteOptionsCache;
+    if (maxRedirects < 0) {
+      throw new IllegalArgumentException("maxRedirects must not be negative");
+    }
+    this.maxRedirects = maxRedirects;
+    this.reuseCreatedResponseBody = reuseCreatedResponseBody;
+    this.redirectCache = redirectCache;
+    this.singleFlight = singleFlight;
+    this.conditionalHopCache = conditionalHopCache;
+    this.linkDiscoverer = requireNonNull(linkDiscoverer);
+    this.objectMapper = requireNonNull(objectMapper);
+    this.requestExecutor =
+        new RequestExecutor(
+            this,
+            mockMvc,
+            this.requestPostProcessors,
+            this.relationsRequestPostProcessors,
+            this.executionInterceptors,
+            metrics,
+            this.headers,
+            traversalCache,
+            remoteOptionsCache,
+            maxRedirects,
+            redirectCache,
+            singleFlight);
   }
 
   public static Builder builder(MockMvc mockMvc) {
     return new Builder(mockMvc);
   }
 
+  /**
+   * @return A {@link JsonMapper} builder preconfigured to read HAL-FORMS documents. Any {@link
+   *     ObjectMapper} passed to {@link Builder#objectMapper(ObjectMapper)} should be built from it.
+   */
+  public static JsonMapper.Builder objectMapperBuilder() {
+    return JsonMapper.builder()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .addModule(new JacksonModule());
+  }
+
   public Builder toBuilder() {
     return new Builder(this);
   }
@@ -89,23 +172,86 @@ public class HalMockMvc {
   }
 
   public TraversalBuilder follow(String... relations) {
-    return new TraversalBuilder(
-            mockMvc,
-            baseUri,
-            requestPostProcessors,
-            relationsRequestPostProcessors,
-            new HttpHeaders(headers))
-        .follow(relations);
+    return new TraversalBuilder(this).follow(relations);
   }
 
   public TraversalBuilder follow(Hop relation) {
-    return new TraversalBuilder(
-            mockMvc,
-            baseUri,
-            requestPostProcessors,
-            relationsRequestPostProcessors,
-            new HttpHeaders(headers))
-        .follow(relation);
+    return new TraversalBuilder(this).follow(relation);
+  }
+
+  /**
+   * @return An asynchronous view of this instance, running each traversal on virtual threads when
+   *     available
+   * @see AsyncHalMockMvc
+   */
+  public AsyncHalMockMvc async() {
+    return new AsyncHalMockMvc(this);
+  }
+
+  /**
+   * @return A crawler walking every relation reachable from {@link #baseUri()}
+   * @see HalCrawler
+   */
+  public HalCrawler crawl() {
+    return new HalCrawler(this, objectMapper);
+  }
+
+  /**
+   * @return A closed-loop load runner running scenarios against this instance
+   * @see LoadRunner
+   */
+  public LoadRunner load() {
+    return new LoadRunner(this);
+  }
+
+  /**
+   * @return The {@link RequestExecutor} applying this instance configuration. It is stateless and
+   *     shared by all the traversals of this instance.
+   */
+  RequestExecutor requestExecutor() {
+    return requestExecutor;
+  }
+
+  /**
+   * @return A new {@link HalMockMvc} sharing this instance configuration but starting its
+   *     traversals from the provided URI
+   */
+  HalMockMvc shiftTo(String baseUri) {
+    return new Builder(this).baseUri(baseUri).relationsRequestPostProcessors(List.of()).build();
+  }
+
+  /**
+   * @param creationResult The result of the request that created the resource located at {@code
+   *     location}
+   * @return A new {@link HalMockMvc} starting its traversals from {@code location}. Unless disabled
+   *     by {@link Builder#reuseCreatedResponseBody(boolean)}, the first traversal needing the
+   *     representation of {@code location} reuses the body of {@code creationResult} when it is a
+   *     HAL representation whose self link is {@code location}.
+   */
+  HalMockMvc shiftToCreated(String location, ResultActions creationResult) {
+    HalMockMvc shifted = shiftTo(location);
+    if (reuseCreatedResponseBody && representsCreatedResource(location, creationResult)) {
+      shifted.createdResourceResult.set(creationResult);
+    }
+    return shifted;
+  }
+
+  private boolean representsCreatedResource(String location, ResultActions creationResult) {
+    MockHttpServletResponse response = creationResult.andReturn().getResponse();
+    if (!HalCompatibleContentTypeMatcher.isCompatibleWithHal(response.getContentType())) {
+      return false;
+    }
+    byte[] document = response.getContentAsByteArray();
+    if (document.length == 0) {
+      return false;
+    }
+    return linkDiscoverer
+        .findLinkWithRel(IanaLinkRelations.SELF, new ByteArrayInputStream(document))
+        .map(Link::expand)
+        .map(Link::toUri)
+        .map(CanonicalUris::canonicalize)
+        .filter(CanonicalUris.canonicalize(URI.create(location))::equals)
+        .isPresent();
   }
 
   /**
@@ -113,25 +259,34 @@ public class HalMockMvc {
    */
   public static class TraversalBuilder {
 
+    private static final String EMBEDDED = "_embedded";
+    private static final String LINKS = "_links";
+
     private final RequestExecutor requestExecutor;
     private final String baseUri;
-    private final LinkDiscoverer halLinkDiscoverer = new HalFormsLinkDiscoverer();
+    private final HttpHeaders httpHeaders;
+    @Nullable private final TraversalCache traversalCache;
+    @Nullable private final ConditionalHopCache conditionalHopCache;
+    private final LinkDiscoverer linkDiscoverer;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<@Nullable ResultActions> createdResourceResult;
     private final List<Hop> hops = new ArrayList<>();
 
-    private TraversalBuilder(
-        MockMvc mockMvc,
-        String baseUri,
-        List<RequestPostProcessor> requestPostProcessors,
-        List<RelationsRequestPostProcessor> relationsRequestPostProcessors,
-        HttpHeaders httpHeaders) {
-      this.requestExecutor =
-          new RequestExecutor(
-              mockMvc, requestPostProcessors, relationsRequestPostProcessors, httpHeaders);
-      this.baseUri = baseUri;
+    private TraversalBuilder(HalMockMvc halMockMvc) {
+      this.requestExecutor = halMockMvc.requestExecutor;
+      this.httpHeaders = requestExecutor.httpHeaders();
+      this.baseUri = halMockMvc.baseUri;
+      this.traversalCache = halMockMvc.traversalCache;
+      this.conditionalHopCache = halMockMvc.conditionalHopCache;
+      this.linkDiscoverer = halMockMvc.linkDiscoverer;
+      this.objectMapper = halMockMvc.objectMapper;
+      this.createdResourceResult = halMockMvc.createdResourceResult;
     }
 
     public TraversalBuilder follow(String... relation) {
-      hops.addAll(Stream.of(relation).map(Hop::relation).toList());
+      for (String relationName : relation) {
+        hops.add(Hop.relation(relationName));
+      }
       return this;
     }
 
@@ -141,10 +296,38 @@ public class HalMockMvc {
     }
 
     /**
-     * @return The HAL-FORMS templates provided by the final endpoint.
+     * @return The HAL-FORMS templates provided by the final endpoint. When the final endpoint is an
+     *     {@link Hop#embedded(String)} resource, its embedded representation is used without
+     *     dispatching any request.
      */
     public Templates templates() throws Exception {
-      return new Templates(requestExecutor, get());
+      Position target = fetchTargetPosition();
+      ResultActions response = target.response();
+      if (response != null) {
+        return new Templates(requestExecutor, objectMapper, response);
+      }
+      byte[] document = target.document();
+      if (document != null) {
+        return new Templates(requestExecutor, objectMapper, document);
+      }
+      return new Templates(
+          requestExecutor,
+          objectMapper,
+          requestExecutor.execute(
+              RequestKind.TEMPLATES_FETCH,
+              HttpMethod.GET,
+              target.uri(),
+              null,
+              MockMvcRequestBuilders.get(target.uri())));
+    }
+
+    /**
+     * @return A lazy walk of the paged collection starting at the final endpoint
+     * @see PagedTraversal
+     */
+    public PagedTraversal pages() {
+      return new PagedTraversal(
+          requestExecutor, objectMapper, linkDiscoverer, this::fetchTargetUri);
     }
 
     /**
@@ -238,45 +421,224 @@ public class HalMockMvc {
     }
 
     private URI fetchTargetUri() throws Exception {
-      URI targetUri = URI.create(baseUri);
-      for (Hop hop : hops) {
+      if (hops.isEmpty()) {
+        return URI.create(baseUri);
+      }
+      return fetchTargetPosition().uri();
+    }
 
-        String relationName = hop.relationName();
-        ResultActions requestResult = requestExecutor.fetchRelations(targetUri, relationName);
-        requestResult.andExpect(contentTypeIsCompatibleWithHal());
-
-        MockHttpServletResponse response = requestResult.andReturn().getResponse();
-        String body = response.getContentAsString();
-        int responseStatus = response.getStatus();
-        if (responseStatus < 200 || responseStatus >= 400) {
-          throw new IllegalStateException(
-              "GET on "
-                  + targetUri
-                  + " failed with code "
-                  + responseStatus
-                  + " and body '"
-                  + body
-                  + "'");
+    private Position fetchTargetPosition() throws Exception {
+      JfrEvents.TraversalEvent event = new JfrEvents.TraversalEvent();
+      event.begin();
+      ResultActions createdResult = createdResourceResult.getAndSet(null);
+      Position position =
+          createdResult == null
+              ? new Position(URI.create(baseUri), null, null)
+              : new Position(
+                  URI.create(baseUri),
+                  createdResult.andReturn().getResponse().getContentAsByteArray(),
+                  createdResult);
+      for (Hop hop : hops) {
+        byte[] document = position.document();
+        if (hop.embedded()) {
+          position = fetchEmbeddedPosition(position, hop);
+        } else if (document != null) {
+          position =
+              new Position(
+                  toTargetUri(
+                      hop,
+                      parseLinks(position.uri(), hop.relationName(), document),
+                      position.uri().toString()),
+                  null,
+                  null);
+        } else if (traversalCache == null) {
+          position = new Position(fetchHopTargetUri(position.uri(), hop), null, null);
+        } else {
+          position =
+              new Position(
+                  traversalCache.resolve(position.uri(), hop, httpHeaders, this::fetchHopTargetUri),
+                  null,
+                  null);
         }
+      }
+      if (event.shouldCommit()) {
+        event.commit(
+            hops.stream().map(Hop::relationName).collect(Collectors.joining(",")),
+            baseUri,
+            position.uri());
+      }
+      return position;
+    }
 
-        List<Link> links = halLinkDiscoverer.findLinksWithRel(relationName, body).toList();
-        if (links.isEmpty()) {
-          throw new IllegalArgumentException(
-              "Could not find link for %s at URI <%s>"
-                  .formatted(hop, requestResult.andReturn().getRequest().getRequestURI()));
-        }
-        int linkCount = links.size();
-        if (linkCount > 1) {
-          throw new IllegalArgumentException(
-              "Found <%d> links for %s at URI <%s>"
-                  .formatted(
-                      linkCount, hop, requestResult.andReturn().getRequest().getRequestURI()));
-        }
-        targetUri = links.stream().findFirst().orElseThrow().expand(hop.parameters()).toUri();
+    /**
+     * @return The position of the single resource embedded under the hop relation of the current
+     *     position document, fetching that document if it is not already known
+     */
+    private Position fetchEmbeddedPosition(Position position, Hop hop) throws Exception {
+      String relationName = hop.relationName();
+      byte[] document = position.document();
+      if (document == null) {
+        ResultActions requestResult = requestExecutor.fetchRelations(position.uri(), relationName);
+        checkHopResponse(position.uri(), requestResult);
+        document = requestResult.andReturn().getResponse().getContentAsByteArray();
+      }
+
+      JsonNode embedded = objectMapper.readTree(document).path(EMBEDDED).path(relationName);
+      List<JsonNode> resources =
+          embedded.isArray()
+              ? embedded.valueStream().filter(hop::matchesEmbedded).toList()
+              : Stream.of(embedded)
+                  .filter(JsonNode::isObject)
+                  .filter(hop::matchesEmbedded)
+                  .toList();
+      if (resources.isEmpty()) {
+        throw new IllegalArgumentException(
+            "Could not find embedded resource for %s at URI <%s>".formatted(hop, position.uri()));
+      }
+      if (resources.size() > 1) {
+        throw new IllegalArgumentException(
+            "Found <%d> embedded resources for %s at URI <%s>"
+                .formatted(resources.size(), hop, position.uri()));
+      }
+      JsonNode resource = resources.get(0);
+      JsonNode selfHref = resource.path(LINKS).path(IanaLinkRelations.SELF_VALUE).path("href");
+      if (!selfHref.isString()) {
+        throw new IllegalArgumentException(
+            "The embedded resource for %s at URI <%s> has no self link"
+                .formatted(hop, position.uri()));
+      }
+      return new Position(
+          Link.of(selfHref.asString()).expand().toUri(),
+          objectMapper.writeValueAsBytes(resource),
+          null);
+    }
+
+    private URI fetchHopTargetUri(URI targetUri, Hop hop) throws Exception {
+      String relationName = hop.relationName();
+      JfrEvents.HopEvent event = new JfrEvents.HopEvent();
+      event.begin();
+      ConditionalHopCache.@Nullable Entry cachedEntry =
+          conditionalHopCache == null ? null : conditionalHopCache.get(targetUri, httpHeaders);
+      ResultActions requestResult =
+          requestExecutor.fetchRelations(
+              targetUri,
+              cachedEntry == null ? HttpHeaders.EMPTY : cachedEntry.conditionalHeaders(),
+              relationName);
+
+      MockHttpServletResponse response = requestResult.andReturn().getResponse();
+      List<Link> links;
+      if (conditionalHopCache != null
+          && cachedEntry != null
+          && response.getStatus() == HttpStatus.NOT_MODIFIED.value()) {
+        conditionalHopCache.recordNotModified();
+        Metrics metrics = requestExecutor.metrics();
+        long start = metrics.start();
+        links = cachedEntry.links(relationName, linkDiscoverer);
+        metrics.record(
+            MetricsListener.Phase.LINKS_PARSING,
+            null,
+            targetUri,
+            relationName,
+            metrics.elapsedSince(start),
+            cachedEntry.contentLength());
+      } else {
+        links = readLinks(targetUri, relationName, requestResult);
+      }
+
+      URI hopTargetUri =
+          toTargetUri(hop, links, requestResult.andReturn().getRequest().getRequestURI());
+      event.commit(relationName, targetUri, requestResult);
+      return hopTargetUri;
+    }
+
+    private URI toTargetUri(Hop hop, List<Link> links, String uri) {
+      if (links.isEmpty()) {
+        throw new IllegalArgumentException(
+            "Could not find link for %s at URI <%s>".formatted(hop, uri));
+      }
+      int linkCount = links.size();
+      if (linkCount > 1) {
+        throw new IllegalArgumentException(
+            "Found <%d> links for %s at URI <%s>".formatted(linkCount, hop, uri));
+      }
+      return links.get(0).expand(hop.parameters()).toUri();
+    }
+
+    private void checkHopResponse(URI targetUri, ResultActions requestResult) throws Exception {
+      requestResult.andExpect(contentTypeIsCompatibleWithHal());
+
+      MockHttpServletResponse response = requestResult.andReturn().getResponse();
+      int responseStatus = response.getStatus();
+      if (responseStatus < 200 || responseStatus >= 400) {
+        throw new IllegalStateException(
+            "GET on "
+                + targetUri
+                + " failed with code "
+                + responseStatus
+                + " and body '"
+                + response.getContentAsString()
+                + "'");
       }
+    }
 
-      return targetUri;
+    private List<Link> readLinks(URI targetUri, String relationName, ResultActions requestResult)
+        throws Exception {
+      checkHopResponse(targetUri, requestResult);
+
+      MockHttpServletResponse response = requestResult.andReturn().getResponse();
+      byte[] content = response.getContentAsByteArray();
+      Metrics metrics = requestExecutor.metrics();
+      long start = metrics.start();
+      List<Link> links;
+      ConditionalHopCache.@Nullable Entry entry =
+          conditionalHopCache == null
+              ? null
+              : conditionalHopCache.put(targetUri, httpHeaders, response);
+      if (entry == null && requestResult instanceof CoalescedResultActions coalescedResult) {
+        links = coalescedResult.links(relationName, linkDiscoverer);
+      } else if (entry == null) {
+        links =
+            linkDiscoverer
+                .findLinksWithRel(relationName, new ByteArrayInputStream(content))
+                .toList();
+      } else {
+        links = entry.links(relationName, linkDiscoverer);
+      }
+      metrics.record(
+          MetricsListener.Phase.LINKS_PARSING,
+          null,
+          targetUri,
+          relationName,
+          metrics.elapsedSince(start),
+          content.length);
+      return links;
     }
+
+    private List<Link> parseLinks(URI uri, String relationName, byte[] document) {
+      Metrics metrics = requestExecutor.metrics();
+      long start = metrics.start();
+      List<Link> links =
+          linkDiscoverer
+              .findLinksWithRel(relationName, new ByteArrayInputStream(document))
+              .toList();
+      metrics.record(
+          MetricsListener.Phase.LINKS_PARSING,
+          null,
+          uri,
+          relationName,
+          metrics.elapsedSince(start),
+          document.length);
+      return links;
+    }
+
+    /**
+     * @param uri The URI of the resource
+     * @param document The representation of the resource when it is already known, e.g. because it
+     *     was embedded in its parent
+     * @param response The response {@code document} was read from, if any
+     */
+    private record Position(
+        URI uri, byte @Nullable [] document, @Nullable ResultActions response) {}
   }
 
   public static class Builder {
@@ -285,10 +647,37 @@ public class HalMockMvc {
     private String baseUri;
     private final List<RequestPostProcessor> requestPostProcessors;
     private final List<RelationsRequestPostProcessor> relationsRequestPostProcessors;
+    private final List<ExecutionInterceptor> executionInterceptors;
+    private final List<MetricsListener> metricsListeners;
     private final HttpHeaders headers;
+    @Nullable private TraversalCache traversalCache;
+    @Nullable private RemoteOptionsCache remoteOptionsCache;
+    private int maxRedirects;
+    private boolean reuseCreatedResponseBody;
+    @Nullable private RedirectCache redirectCache;
+    @Nullable private SingleFlight singleFlight;
+    @Nullable private ConditionalHopCache conditionalHopCache;
+    private LinkDiscoverer linkDiscoverer;
+    private ObjectMapper objectMapper;
 
     private Builder(MockMvc mockMvc) {
-      this(mockMvc, DEFAULT_BASE_URI, List.of(), List.of(), new HttpHeaders());
+      this(
+          mockMvc,
+          DEFAULT_BASE_URI,
+          List.of(),
+          List.of(),
+          List.of(),
+          List.of(),
+          new HttpHeaders(),
+          null,
+          null,
+          DEFAULT_MAX_REDIRECTS,
+          true,
+          null,
+          null,
+          null,
+          StreamingHalLinkDiscoverer.INSTANCE,
+          DEFAULT_OBJECT_MAPPER);
     }
 
     private Builder(HalMockMvc halMockMvc) {
@@ -297,7 +686,18 @@ public class HalMockMvc {
           halMockMvc.baseUri,
           halMockMvc.requestPostProcessors,
           halMockMvc.relationsRequestPostProcessors,
-          halMockMvc.headers);
+          halMockMvc.executionInterceptors,
+          halMockMvc.metricsListeners,
+          halMockMvc.headers,
+          halMockMvc.traversalCache,
+          halMockMvc.remoteOptionsCache,
+          halMockMvc.maxRedirects,
+          halMockMvc.reuseCreatedResponseBody,
+          halMockMvc.redirectCache,
+          halMockMvc.singleFlight,
+          halMockMvc.conditionalHopCache,
+          halMockMvc.linkDiscoverer,
+          halMockMvc.objectMapper);
     }
 
     private Builder(
@@ -305,12 +705,34 @@ public class HalMockMvc {
         String baseUri,
         List<RequestPostProcessor> requestPostProcessors,
         List<RelationsRequestPostProcessor> relationsRequestPostProcessors,
-        HttpHeaders headers) {
+        List<ExecutionInterceptor> executionInterceptors,
+        List<MetricsListener> metricsListeners,
+        HttpHeaders headers,
+        @Nullable TraversalCache traversalCache,
+        @Nullable RemoteOptionsCache remoteOptionsCache,
+        int maxRedirects,
+        boolean reuseCreatedResponseBody,
+        @Nullable RedirectCache redirectCache,
+        @Nullable SingleFlight singleFlight,
+        @Nullable ConditionalHopCache conditionalHopCache,
+        LinkDiscoverer linkDiscoverer,
+        ObjectMapper objectMapper) {
       this.mockMvc = mockMvc;
       this.baseUri = baseUri;
       this.requestPostProcessors = new ArrayList<>(requestPostProcessors);
       this.relationsRequestPostProcessors = new ArrayList<>(relationsRequestPostProcessors);
+      this.executionInterceptors = new ArrayList<>(executionInterceptors);
+      this.metricsListeners = new ArrayList<>(metricsListeners);
       this.headers = HttpHeaders.copyOf(headers);
+      this.traversalCache = traversalCache;
+      this.remoteOptionsCache = remoteOptionsCache;
+      this.maxRedirects = maxRedirects;
+      this.reuseCreatedResponseBody = reuseCreatedResponseBody;
+      this.redirectCache = redirectCache;
+      this.singleFlight = singleFlight;
+      this.conditionalHopCache = conditionalHopCache;
+      this.linkDiscoverer = linkDiscoverer;
+      this.objectMapper = objectMapper;
     }
 
     /**
@@ -373,6 +795,42 @@ public class HalMockMvc {
       return this;
     }
 
+    /**
+     * Adds an interceptor wrapping any request dispatched to {@link MockMvc} by the built {@link
+     * HalMockMvc}. Interceptors are called in the order they were added.
+     */
+    public Builder addExecutionInterceptor(ExecutionInterceptor executionInterceptor) {
+      executionInterceptors.add(requireNonNull(executionInterceptor));
+      return this;
+    }
+
+    /**
+     * @see #addExecutionInterceptor(ExecutionInterceptor)
+     */
+    public Builder executionInterceptors(List<ExecutionInterceptor> executionInterceptors) {
+      this.executionInterceptors.clear();
+      this.executionInterceptors.addAll(executionInterceptors);
+      return this;
+    }
+
+    /**
+     * Adds a listener receiving the measurements taken by the built {@link HalMockMvc}.
+     * Measurements are only taken when at least one listener is registered.
+     */
+    public Builder addMetricsListener(MetricsListener metricsListener) {
+      metricsListeners.add(requireNonNull(metricsListener));
+      return this;
+    }
+
+    /**
+     * @see #addMetricsListener(MetricsListener)
+     */
+    public Builder metricsListeners(List<MetricsListener> metricsListeners) {
+      this.metricsListeners.clear();
+      this.metricsListeners.addAll(metricsListeners);
+      return this;
+    }
+
     /**
      * @param name The header name
      * @param values The header values
@@ -388,9 +846,117 @@ public class HalMockMvc {
       return this;
     }
 
+    /**
+     * @param traversalCache The cache used to skip the hops already resolved by a previous
+     *     traversal. Caching is disabled when null, which is the default.
+     * @see TraversalCache
+     */
+    public Builder traversalCache(@Nullable TraversalCache traversalCache) {
+      this.traversalCache = traversalCache;
+      return this;
+    }
+
+    /**
+     * @param remoteOptionsCache The cache used to skip the fetching of HAL-FORMS options lists
+     *     already fetched by a previous form validation. Caching is disabled when null, which is
+     *     the default.
+     * @see RemoteOptionsCache
+     */
+    public Builder remoteOptionsCache(@Nullable RemoteOptionsCache remoteOptionsCache) {
+      this.remoteOptionsCache = remoteOptionsCache;
+      return this;
+    }
+
+    /**
+     * @param maxRedirects The maximum number of redirects followed by a single GET request before
+     *     failing. Defaults to {@link HalMockMvc#DEFAULT_MAX_REDIRECTS}.
+     */
+    public Builder maxRedirects(int maxRedirects) {
+      this.maxRedirects = maxRedirects;
+      return this;
+    }
+
+    /**
+     * @param reuseCreatedResponseBody True to let the {@link HalMockMvc} returned by a create and
+     *     shift operation reuse the body of the {@code 201 Created} response, instead of fetching
+     *     it again, when it is a HAL representation whose self link is the {@code Location} header.
+     *     Defaults to true.
+     */
+    public Builder reuseCreatedResponseBody(boolean reuseCreatedResponseBody) {
+      this.reuseCreatedResponseBody = reuseCreatedResponseBody;
+      return this;
+    }
+
+    /**
+     * @param redirectCache The cache used to skip the permanent redirects already followed by a
+     *     previous GET request. Caching is disabled when null, which is the default.
+     * @see RedirectCache
+     */
+    public Builder redirectCache(@Nullable RedirectCache redirectCache) {
+      this.redirectCache = redirectCache;
+      return this;
+    }
+
+    /**
+     * @param singleFlight Coalesces the identical GET relation fetches and options fetches running
+     *     at the same time, possibly from other {@link HalMockMvc} sharing the same instance.
+     *     Coalescing is disabled when null, which is the default.
+     * @see SingleFlight
+     */
+    public Builder singleFlight(@Nullable SingleFlight singleFlight) {
+      this.singleFlight = singleFlight;
+      return this;
+    }
+
+    /**
+     * @param conditionalHopCache The cache used to revalidate the hop responses already fetched by
+     *     a previous traversal with conditional GET requests. Caching is disabled when null, which
+     *     is the default.
+     * @see ConditionalHopCache
+     */
+    public Builder conditionalHopCache(@Nullable ConditionalHopCache conditionalHopCache) {
+      this.conditionalHopCache = conditionalHopCache;
+      return this;
+    }
+
+    /**
+     * @param linkDiscoverer The discoverer used to find the link of each traversed relation.
+     *     Defaults to a streaming HAL discoverer only reading the top-level {@code _links} member
+     *     of each representation.
+     */
+    public Builder linkDiscoverer(LinkDiscoverer linkDiscoverer) {
+      this.linkDiscoverer = requireNonNull(linkDiscoverer);
+      return this;
+    }
+
+    /**
+     * @param objectMapper The mapper used to read and write every HAL-FORMS document. It is shared
+     *     by all the traversals of the built {@link HalMockMvc}. Defaults to a mapper built from
+     *     {@link HalMockMvc#objectMapperBuilder()}.
+     */
+    public Builder objectMapper(ObjectMapper objectMapper) {
+      this.objectMapper = requireNonNull(objectMapper);
+      return this;
+    }
+
     public HalMockMvc build() {
       return new HalMockMvc(
-          mockMvc, baseUri, requestPostProcessors, relationsRequestPostProcessors, headers);
+          mockMvc,
+          baseUri,
+          requestPostProcessors,
+          relationsRequestPostProcessors,
+          executionInterceptors,
+          metricsListeners,
+          headers,
+          traversalCache,
+          remoteOptionsCache,
+          maxRedirects,
+          reuseCreatedResponseBody,
+          redirectCache,
+          singleFlight,
+          conditionalHopCache,
+          linkDiscoverer,
+          objectMapper);
     }
   }
 }
@@ -2,7 +2,9 @@ package com.cosium.hal_mock_mvc;
 
 import static java.util.Objects.requireNonNull;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * @author Réda Housni Alaoui
@@ -10,13 +12,27 @@ import org.springframework.test.web.servlet.MockMvc;
 public class HalMockMvcBuilderFactory implements HalMockMvcBuilders {
 
   private final MockMvc mockMvc;
+  @Nullable private final ObjectMapper objectMapper;
 
   public HalMockMvcBuilderFactory(MockMvc mockMvc) {
+    this(mockMvc, null);
+  }
+
+  /**
+   * @param objectMapper The mapper shared by every created builder
+   * @see HalMockMvc.Builder#objectMapper(ObjectMapper)
+   */
+  public HalMockMvcBuilderFactory(MockMvc mockMvc, @Nullable ObjectMapper objectMapper) {
     this.mockMvc = requireNonNull(mockMvc);
+    this.objectMapper = objectMapper;
   }
 
   @Override
   public HalMockMvc.Builder create() {
-    return HalMockMvc.builder(mockMvc);
+    HalMockMvc.Builder builder = HalMockMvc.builder(mockMvc);
+    if (objectMapper != null) {
+      builder.objectMapper(objectMapper);
+    }
+    return builder;
   }
 }
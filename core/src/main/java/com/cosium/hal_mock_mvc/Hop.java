@@ -5,6 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.function.Predicate;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
 
 /**
  * @author Réda Housni Alaoui
@@ -12,14 +15,66 @@ import java.util.StringJoiner;
 public class Hop {
 
   private final String relationName;
+  private final boolean embedded;
   private final Map<String, Object> parameters = new HashMap<>();
+  @Nullable private Predicate<JsonNode> embeddedFilter;
 
-  private Hop(String relationName) {
+  private Hop(String relationName, boolean embedded) {
     this.relationName = requireNonNull(relationName);
+    this.embedded = embedded;
   }
 
   public static Hop relation(String relation) {
-    return new Hop(relation);
+    return new Hop(relation, false);
+  }
+
+  /**
+   * A hop into a resource inlined under the {@code _embedded} section of the current resource. The
+   * embedded representation is used in place to find the next relation or to parse {@link
+   * Templates}, without dispatching any request. Only requests on the final endpoint, such as
+   * {@link HalMockMvc.TraversalBuilder#get()}, are dispatched to the {@code self} link of the
+   * embedded resource.
+   *
+   * <p>The relation must hold exactly one embedded resource matching the {@link #where(Predicate)}
+   * filters.
+   *
+   * @param relation The relation of the embedded resources
+   */
+  public static Hop embedded(String relation) {
+    return new Hop(relation, true);
+  }
+
+  /**
+   * Only keeps the embedded resources matching the provided predicate. Successive filters are
+   * combined with a logical AND.
+   *
+   * @throws IllegalStateException if this hop is not an {@link #embedded(String)} one
+   */
+  public Hop where(Predicate<JsonNode> filter) {
+    requireNonNull(filter);
+    if (!embedded) {
+      throw new IllegalStateException("Only embedded hops can be filtered");
+    }
+    embeddedFilter = embeddedFilter == null ? filter : embeddedFilter.and(filter);
+    return this;
+  }
+
+  /**
+   * Only keeps the embedded resources having a scalar property whose text is the one of the
+   * provided value.
+   *
+   * @see #where(Predicate)
+   */
+  public Hop where(String propertyName, Object value) {
+    requireNonNull(propertyName);
+    String expectedText = String.valueOf(value);
+    return where(
+        resource -> {
+          JsonNode property = resource.get(propertyName);
+          return property != null
+              && property.isValueNode()
+              && expectedText.equals(property.asString());
+        });
   }
 
   public Hop withParameter(String name, Object value) {
@@ -35,11 +90,22 @@ public class Hop {
     return parameters;
   }
 
+  boolean embedded() {
+    return embedded;
+  }
+
+  boolean matchesEmbedded(JsonNode resource) {
+    return embeddedFilter == null || embeddedFilter.test(resource);
+  }
+
   @Override
   public String toString() {
-    return new StringJoiner(", ", Hop.class.getSimpleName() + "[", "]")
-        .add("relationName='" + relationName + "'")
-        .add("parameters=" + parameters)
-        .toString();
+    StringJoiner joiner =
+        new StringJoiner(", ", Hop.class.getSimpleName() + "[", "]")
+            .add("relationName='" + relationName + "'");
+    if (embedded) {
+      joiner.add("embedded=true");
+    }
+    return joiner.add("parameters=" + parameters).toString();
   }
 }
@@ -0,0 +1,178 @@
+package com.cosium.hal_mock_mvc;
+
+import java.net.URI;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * The Java Flight Recorder events emitted by {@link HalMockMvc}. While no recording enables them,
+ * an event costs its begin timestamp and a {@link Event#shouldCommit()} check.
+ *
+ * @author Réda Housni Alaoui
+ */
+class JfrEvents {
+
+  private static final String CATEGORY = "HAL Mock MVC";
+
+  private JfrEvents() {}
+
+  @Name("com.cosium.hal_mock_mvc.Traversal")
+  @Label("Traversal")
+  @Description("The resolution of the final endpoint URI of a traversal")
+  @Category(CATEGORY)
+  static class TraversalEvent extends Event {
+
+    @Label("Relations")
+    String relations;
+
+    @Label("Base URI")
+    String baseUri;
+
+    @Label("Target URI")
+    String targetUri;
+
+    void commit(String relations, String baseUri, URI targetUri) {
+      if (!shouldCommit()) {
+        return;
+      }
+      this.relations = relations;
+      this.baseUri = baseUri;
+      this.targetUri = targetUri.toString();
+      commit();
+    }
+  }
+
+  @Name("com.cosium.hal_mock_mvc.Hop")
+  @Label("Hop")
+  @Description("The fetch of a document and the search of a relation in it")
+  @Category(CATEGORY)
+  static class HopEvent extends Event {
+
+    @Label("Relation")
+    String relation;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Response Size")
+    @DataAmount
+    long bytes;
+
+    void commit(String relation, URI uri, ResultActions resultActions) {
+      if (!shouldCommit()) {
+        return;
+      }
+      this.relation = relation;
+      this.uri = uri.toString();
+      MockHttpServletResponse response = resultActions.andReturn().getResponse();
+      this.status = response.getStatus();
+      this.bytes = response.getContentAsByteArray().length;
+      commit();
+    }
+  }
+
+  @Name("com.cosium.hal_mock_mvc.TemplatesParsing")
+  @Label("Templates Parsing")
+  @Description("The indexing of the HAL-FORMS templates of a document")
+  @Category(CATEGORY)
+  static class TemplatesParsingEvent extends Event {
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Document Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Template Count")
+    int templateCount;
+
+    void commit(ResultActions resultActions, int templateCount) {
+      if (!shouldCommit()) {
+        return;
+      }
+      MockHttpServletResponse response = resultActions.andReturn().getResponse();
+      this.uri = resultActions.andReturn().getRequest().getRequestURI();
+      this.status = response.getStatus();
+      this.bytes = response.getContentAsByteArray().length;
+      this.templateCount = templateCount;
+      commit();
+    }
+  }
+
+  @Name("com.cosium.hal_mock_mvc.FormSubmission")
+  @Label("Form Submission")
+  @Description("The validation and submission of a form")
+  @Category(CATEGORY)
+  static class FormSubmissionEvent extends Event {
+
+    @Label("Template Key")
+    String templateKey;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Response Size")
+    @DataAmount
+    long bytes;
+
+    void commit(String templateKey, URI uri, ResultActions resultActions) {
+      if (!shouldCommit()) {
+        return;
+      }
+      this.templateKey = templateKey;
+      this.uri = uri.toString();
+      MockHttpServletResponse response = resultActions.andReturn().getResponse();
+      this.status = response.getStatus();
+      this.bytes = response.getContentAsByteArray().length;
+      commit();
+    }
+  }
+
+  @Name("com.cosium.hal_mock_mvc.OptionsFetch")
+  @Label("Options Fetch")
+  @Description("The fetch of the remote options of a template property")
+  @Category(CATEGORY)
+  static class OptionsFetchEvent extends Event {
+
+    @Label("Property")
+    String property;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Response Size")
+    @DataAmount
+    long bytes;
+
+    void commit(String property, URI uri, ResultActions resultActions) {
+      if (!shouldCommit()) {
+        return;
+      }
+      this.property = property;
+      this.uri = uri.toString();
+      MockHttpServletResponse response = resultActions.andReturn().getResponse();
+      this.status = response.getStatus();
+      this.bytes = response.getContentAsByteArray().length;
+      commit();
+    }
+  }
+}
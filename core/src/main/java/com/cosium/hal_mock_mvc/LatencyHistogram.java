@@ -0,0 +1,145 @@
+package com.cosium.hal_mock_mvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A histogram of latencies, like the ones recorded by a {@link LoadRunner}. Latencies are counted
+ * in buckets whose width grows with their magnitude, so that any reported value is within 1/16th of
+ * the recorded one, whatever the number of recorded latencies. The memory used by a histogram does
+ * not grow with the number of recorded latencies. A histogram is not thread-safe.
+ *
+ * @author Réda Housni Alaoui
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final long[] counts = new long[BUCKET_COUNT];
+  private long count;
+  private long totalNanos;
+  private long minNanos = Long.MAX_VALUE;
+  private long maxNanos;
+
+  public LatencyHistogram() {}
+
+  /**
+   * @param nanos The latency to record, in nanoseconds. A negative latency is recorded as 0.
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    counts[bucketIndex(value)]++;
+    count++;
+    totalNanos += value;
+    minNanos = Math.min(minNanos, value);
+    maxNanos = Math.max(maxNanos, value);
+  }
+
+  void add(LatencyHistogram other) {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] += other.counts[i];
+    }
+    count += other.count;
+    totalNanos += other.totalNanos;
+    minNanos = Math.min(minNanos, other.minNanos);
+    maxNanos = Math.max(maxNanos, other.maxNanos);
+  }
+
+  /**
+   * @return The number of recorded latencies
+   */
+  public long count() {
+    return count;
+  }
+
+  public Duration min() {
+    return count == 0 ? Duration.ZERO : Duration.ofNanos(minNanos);
+  }
+
+  public Duration max() {
+    return Duration.ofNanos(maxNanos);
+  }
+
+  public Duration mean() {
+    return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+  }
+
+  /**
+   * @param percentile A percentile between 0 and 100, e.g. 99 for the 99th percentile
+   * @return The nearest-rank percentile of the recorded latencies
+   */
+  public Duration percentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100");
+    }
+    if (count == 0) {
+      return Duration.ZERO;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long cumulatedCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      cumulatedCount += counts[i];
+      if (cumulatedCount >= rank) {
+        return Duration.ofNanos(Math.min(Math.max(upperBound(i), minNanos), maxNanos));
+      }
+    }
+    return max();
+  }
+
+  /**
+   * @return The non-empty buckets, in ascending order of latency
+   */
+  public List<Bucket> buckets() {
+    List<Bucket> buckets = new ArrayList<>();
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      if (counts[i] > 0) {
+        buckets.add(
+            new Bucket(
+                Duration.ofNanos(lowerBound(i)), Duration.ofNanos(upperBound(i)), counts[i]));
+      }
+    }
+    return buckets;
+  }
+
+  @Override
+  public String toString() {
+    return "count=%d, mean=%s, p50=%s, p99=%s, max=%s"
+        .formatted(count, mean(), percentile(50), percentile(99), max());
+  }
+
+  private static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  private static long lowerBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    long subBucket = index % SUB_BUCKET_COUNT;
+    return (SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+  }
+
+  private static long upperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    return lowerBound(index) + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+
+  /**
+   * @param lowerBound The lowest latency counted by the bucket
+   * @param upperBound The highest latency counted by the bucket
+   * @param count The number of latencies counted by the bucket
+   */
+  public record Bucket(Duration lowerBound, Duration upperBound, long count) {}
+}
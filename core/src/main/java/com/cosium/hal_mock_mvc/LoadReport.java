@@ -0,0 +1,108 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The outcome of a {@link LoadRunner} run.
+ *
+ * @author Réda Housni Alaoui
+ */
+public class LoadReport {
+
+  private final Duration duration;
+  private final LatencyHistogram iterations;
+  private final Map<String, LatencyHistogram> steps;
+  private final long failureCount;
+  @Nullable private final Throwable firstFailure;
+
+  LoadReport(
+      Duration duration,
+      LatencyHistogram iterations,
+      Map<String, LatencyHistogram> steps,
+      long failureCount,
+      @Nullable Throwable firstFailure) {
+    this.duration = requireNonNull(duration);
+    this.iterations = requireNonNull(iterations);
+    this.steps = requireNonNull(steps);
+    this.failureCount = failureCount;
+    this.firstFailure = firstFailure;
+  }
+
+  /**
+   * @return The wall-clock duration of the run
+   */
+  public Duration duration() {
+    return duration;
+  }
+
+  /**
+   * @return The number of completed iterations, failed ones included
+   */
+  public long iterationCount() {
+    return iterations.count();
+  }
+
+  /**
+   * @return The number of completed iterations per second
+   */
+  public double throughput() {
+    long nanos = duration.toNanos();
+    return nanos == 0 ? 0 : iterations.count() * 1_000_000_000d / nanos;
+  }
+
+  /**
+   * @return The latencies of the whole scenario
+   */
+  public LatencyHistogram iterations() {
+    return iterations;
+  }
+
+  /**
+   * @return The latencies of each step, by step name, in order of first execution
+   */
+  public Map<String, LatencyHistogram> steps() {
+    return steps;
+  }
+
+  /**
+   * @param name The name of a step
+   * @return The latencies of the step
+   * @throws IllegalArgumentException if no step has the provided name
+   */
+  public LatencyHistogram step(String name) {
+    LatencyHistogram step = steps.get(name);
+    if (step == null) {
+      throw new IllegalArgumentException("No step named '" + name + "'");
+    }
+    return step;
+  }
+
+  /**
+   * @return The number of iterations that threw
+   */
+  public long failureCount() {
+    return failureCount;
+  }
+
+  /**
+   * @return The first exception thrown by an iteration
+   */
+  public Optional<Throwable> firstFailure() {
+    return Optional.ofNullable(firstFailure);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder =
+        new StringBuilder(
+            "%d iterations in %s (%.1f/s), %d failures%n  scenario: %s"
+                .formatted(iterationCount(), duration, throughput(), failureCount, iterations));
+    steps.forEach((name, histogram) -> builder.append("%n  %s: %s".formatted(name, histogram)));
+    return builder.toString();
+  }
+}
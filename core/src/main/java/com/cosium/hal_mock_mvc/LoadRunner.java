@@ -0,0 +1,268 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs a scenario in a closed loop on a number of worker threads, each worker starting a new
+ * iteration as soon as its previous one completes. The run stops after a fixed duration or a fixed
+ * number of iterations. The latencies of the whole scenario and of each of its named steps are
+ * reported in a {@link LoadReport}.
+ *
+ * <pre>{@code
+ * LoadReport report =
+ *     halMockMvc.load().workers(16).duration(Duration.ofSeconds(10))
+ *         .run((halMockMvc, steps) -> {
+ *           Templates templates = steps.step("templates", () -> halMockMvc.follow("orders").templates());
+ *           steps.step("submit", () -> templates.byKey("default").createForm().withString("name", "john").submit());
+ *         });
+ * }</pre>
+ *
+ * <p>An iteration throwing an exception is counted as a failure and the run goes on.
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc#load()
+ */
+public class LoadRunner {
+
+  private final HalMockMvc halMockMvc;
+  private int workers = Runtime.getRuntime().availableProcessors();
+  private boolean virtualThreads;
+  @Nullable private Duration duration;
+  private long iterations;
+
+  LoadRunner(HalMockMvc halMockMvc) {
+    this.halMockMvc = requireNonNull(halMockMvc);
+  }
+
+  /**
+   * @param workers The number of threads running iterations. Defaults to the number of available
+   *     processors.
+   */
+  public LoadRunner workers(int workers) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("workers must be greater than 0");
+    }
+    this.workers = workers;
+    return this;
+  }
+
+  /**
+   * @param virtualThreads True to run the workers on virtual threads, false to run them on platform
+   *     threads. Defaults to false.
+   * @throws UnsupportedOperationException when the JVM does not support virtual threads
+   */
+  public LoadRunner virtualThreads(boolean virtualThreads) {
+    if (virtualThreads && VirtualThreadFactory.INSTANCE == null) {
+      throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+    }
+    this.virtualThreads = virtualThreads;
+    return this;
+  }
+
+  /** Runs iterations until the provided duration elapsed. Replaces any iteration count. */
+  public LoadRunner duration(Duration duration) {
+    if (duration.isNegative() || duration.isZero()) {
+      throw new IllegalArgumentException("duration must be positive");
+    }
+    this.duration = duration;
+    this.iterations = 0;
+    return this;
+  }
+
+  /** Runs the provided number of iterations, shared by all workers. Replaces any duration. */
+  public LoadRunner iterations(long iterations) {
+    if (iterations < 1) {
+      throw new IllegalArgumentException("iterations must be greater than 0");
+    }
+    this.iterations = iterations;
+    this.duration = null;
+    return this;
+  }
+
+  /**
+   * Runs the scenario and waits for all workers to complete.
+   *
+   * @throws IllegalStateException if neither a duration nor an iteration count was set
+   */
+  public LoadReport run(Scenario scenario) throws InterruptedException {
+    requireNonNull(scenario);
+    if (duration == null && iterations == 0) {
+      throw new IllegalStateException("Either a duration or an iteration count must be set");
+    }
+
+    AtomicLong remainingIterations = new AtomicLong(iterations);
+    CountDownLatch startSignal = new CountDownLatch(1);
+    List<Worker> workerList = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    ThreadFactory threadFactory =
+        virtualThreads ? requireNonNull(VirtualThreadFactory.INSTANCE) : new WorkerThreadFactory();
+    for (int i = 0; i < workers; i++) {
+      Worker worker = new Worker(scenario, startSignal, remainingIterations);
+      workerList.add(worker);
+      threads.add(threadFactory.newThread(worker));
+    }
+    threads.forEach(Thread::start);
+
+    long start = System.nanoTime();
+    if (duration != null) {
+      for (Worker worker : workerList) {
+        worker.deadline = start + duration.toNanos();
+      }
+    }
+    startSignal.countDown();
+    try {
+      for (Thread thread : threads) {
+        thread.join();
+      }
+    } catch (InterruptedException e) {
+      threads.forEach(Thread::interrupt);
+      throw e;
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    LatencyHistogram iterationHistogram = new LatencyHistogram();
+    Map<String, LatencyHistogram> stepHistograms = new LinkedHashMap<>();
+    long failureCount = 0;
+    Throwable firstFailure = null;
+    for (Worker worker : workerList) {
+      iterationHistogram.add(worker.iterationHistogram);
+      worker.stepHistograms.forEach(
+          (name, histogram) ->
+              stepHistograms.computeIfAbsent(name, key -> new LatencyHistogram()).add(histogram));
+      failureCount += worker.failureCount;
+      if (firstFailure == null) {
+        firstFailure = worker.firstFailure;
+      }
+    }
+    return new LoadReport(
+        elapsed,
+        iterationHistogram,
+        Collections.unmodifiableMap(stepHistograms),
+        failureCount,
+        firstFailure);
+  }
+
+  /** A scenario run once per iteration */
+  @FunctionalInterface
+  public interface Scenario {
+    /**
+     * @param halMockMvc The {@link HalMockMvc} the load runner was created from
+     * @param steps Measures the named steps of the iteration
+     */
+    void run(HalMockMvc halMockMvc, Steps steps) throws Exception;
+  }
+
+  /** Measures the named steps of an iteration */
+  public interface Steps {
+    /**
+     * Runs and measures a step. The latencies of all steps having the same name are aggregated.
+     *
+     * @return The value returned by the step
+     */
+    <T> T step(String name, Callable<T> step) throws Exception;
+  }
+
+  private class Worker implements Runnable, Steps {
+
+    private final Scenario scenario;
+    private final CountDownLatch startSignal;
+    private final AtomicLong remainingIterations;
+    private final LatencyHistogram iterationHistogram = new LatencyHistogram();
+    private final Map<String, LatencyHistogram> stepHistograms = new LinkedHashMap<>();
+    private long deadline;
+    private long failureCount;
+    @Nullable private Throwable firstFailure;
+
+    private Worker(Scenario scenario, CountDownLatch startSignal, AtomicLong remainingIterations) {
+      this.scenario = scenario;
+      this.startSignal = startSignal;
+      this.remainingIterations = remainingIterations;
+    }
+
+    @Override
+    public void run() {
+      try {
+        startSignal.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      while (!Thread.currentThread().isInterrupted() && nextIteration()) {
+        long start = System.nanoTime();
+        try {
+          scenario.run(halMockMvc, this);
+        } catch (Exception | AssertionError e) {
+          failureCount++;
+          if (firstFailure == null) {
+            firstFailure = e;
+          }
+        }
+        iterationHistogram.record(System.nanoTime() - start);
+      }
+    }
+
+    private boolean nextIteration() {
+      if (duration != null) {
+        return System.nanoTime() - deadline < 0;
+      }
+      return remainingIterations.getAndDecrement() > 0;
+    }
+
+    @Override
+    public <T> T step(String name, Callable<T> step) throws Exception {
+      requireNonNull(name);
+      long start = System.nanoTime();
+      try {
+        return step.call();
+      } finally {
+        stepHistograms
+            .computeIfAbsent(name, key -> new LatencyHistogram())
+            .record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static class WorkerThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "hal-mock-mvc-load-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  private static class VirtualThreadFactory {
+
+    @Nullable private static final ThreadFactory INSTANCE = create();
+
+    private static @Nullable ThreadFactory create() {
+      try {
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Object namedBuilder =
+            Class.forName("java.lang.Thread$Builder")
+                .getMethod("name", String.class, long.class)
+                .invoke(builder, "hal-mock-mvc-load-", 1L);
+        return (ThreadFactory)
+            Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(namedBuilder);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.cosium.hal_mock_mvc;
+
+import java.net.URI;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Dispatches measurements to the registered {@link MetricsListener}s. When there is no listener,
+ * {@link #start()} does not read the clock and {@link #record} returns immediately.
+ *
+ * @author Réda Housni Alaoui
+ */
+class Metrics {
+
+  static final Metrics DISABLED = new Metrics(List.of());
+
+  private final List<MetricsListener> listeners;
+  private final boolean enabled;
+
+  private Metrics(List<MetricsListener> listeners) {
+    this.listeners = List.copyOf(listeners);
+    this.enabled = !this.listeners.isEmpty();
+  }
+
+  static Metrics of(List<MetricsListener> listeners) {
+    if (listeners.isEmpty()) {
+      return DISABLED;
+    }
+    return new Metrics(listeners);
+  }
+
+  boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * @return The start of a measurement, to be passed to {@link #elapsedSince(long)}
+   */
+  long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  long elapsedSince(long startNanos) {
+    return enabled ? System.nanoTime() - startNanos : 0;
+  }
+
+  void record(
+      MetricsListener.Phase phase,
+      @Nullable RequestKind requestKind,
+      URI uri,
+      @Nullable String tag,
+      long durationNanos,
+      long bytes) {
+    if (!enabled) {
+      return;
+    }
+    MetricsListener.Measurement measurement =
+        new MetricsListener.Measurement(phase, requestKind, uri, tag, durationNanos, bytes);
+    for (MetricsListener listener : listeners) {
+      listener.onMeasurement(measurement);
+    }
+  }
+}
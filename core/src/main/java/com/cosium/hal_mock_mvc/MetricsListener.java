@@ -0,0 +1,76 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Receives the measurements taken by a {@link HalMockMvc}, allowing to tell the time spent by the
+ * controllers from the time spent parsing and validating HAL-FORMS documents.
+ *
+ * <p>Listeners are called synchronously, on the thread that took the measurement. No measurement is
+ * taken when no listener is registered.
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc.Builder#addMetricsListener(MetricsListener)
+ */
+@FunctionalInterface
+public interface MetricsListener {
+
+  void onMeasurement(Measurement measurement);
+
+  /** What a {@link Measurement} measures */
+  enum Phase {
+    /**
+     * The dispatch of a request to {@link org.springframework.test.web.servlet.MockMvc}. The
+     * measured bytes are those of the response body.
+     */
+    DISPATCH,
+    /**
+     * The search of a relation in a hop response. The measured bytes are those of the parsed
+     * document.
+     */
+    LINKS_PARSING,
+    /**
+     * The indexing of the HAL-FORMS templates of a document, or the parsing of one of them. The
+     * measured bytes are those of the parsed document or template.
+     */
+    TEMPLATES_PARSING,
+    /**
+     * The validation of a form property value against its template property, including the fetching
+     * of remote options. The measurement is tagged with the form property name. No bytes are
+     * measured.
+     */
+    FORM_VALIDATION
+  }
+
+  /**
+   * @param phase What was measured
+   * @param requestKind The kind of the dispatched request for {@link Phase#DISPATCH}, null
+   *     otherwise
+   * @param uri The URI of the dispatched request or of the parsed document
+   * @param tag The relation name, template key or form property name the measurement relates to, if
+   *     any
+   * @param durationNanos The measured duration in nanoseconds
+   * @param bytes The number of bytes involved in the measurement
+   */
+  record Measurement(
+      Phase phase,
+      @Nullable RequestKind requestKind,
+      URI uri,
+      @Nullable String tag,
+      long durationNanos,
+      long bytes) {
+
+    public Measurement {
+      requireNonNull(phase);
+      requireNonNull(uri);
+    }
+
+    public Duration duration() {
+      return Duration.ofNanos(durationNanos);
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.servlet.http.Part;
 import java.net.URI;
+import org.springframework.http.HttpMethod;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
@@ -15,11 +16,12 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 public class MultipartRequest {
 
   private final RequestExecutor requestExecutor;
+  private final URI uri;
   private final MockMultipartHttpServletRequestBuilder requestBuilder;
 
   MultipartRequest(RequestExecutor requestExecutor, URI uri) {
     this.requestExecutor = requireNonNull(requestExecutor);
-    requireNonNull(uri, "Expected a non null get URI");
+    this.uri = requireNonNull(uri, "Expected a non null get URI");
     requestBuilder = MockMvcRequestBuilders.multipart(uri);
   }
 
@@ -52,6 +54,11 @@ public class MultipartRequest {
           request.setMethod(httpMethod.toUpperCase());
           return request;
         });
-    return requestExecutor.execute(requestBuilder);
+    return requestExecutor.execute(
+        RequestKind.USER_REQUEST,
+        HttpMethod.valueOf(httpMethod.toUpperCase()),
+        uri,
+        null,
+        requestBuilder);
   }
 }
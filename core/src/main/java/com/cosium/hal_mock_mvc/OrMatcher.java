@@ -29,7 +29,7 @@ class OrMatcher implements ResultMatcher {
       try {
         matcher.match(result);
         return;
-      } catch (Exception e) {
+      } catch (Exception | AssertionError e) {
         if (exception == null) {
           exception = new Exception();
         }
@@ -0,0 +1,272 @@
+package com.cosium.hal_mock_mvc;
+
+import static com.cosium.hal_mock_mvc.HalCompatibleContentTypeMatcher.contentTypeIsCompatibleWithHal;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.ResultActions;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Walks a paged HAL collection lazily, starting from the final endpoint of a traversal. Each page
+ * is fetched from the {@code next} link of the previous page, without traversing again from the
+ * base URI. A page is only fetched when the stream reaches it, or one page ahead when {@link
+ * #prefetch()} is enabled, so at most two pages are held at any time.
+ *
+ * <pre>{@code
+ * long activeUserCount =
+ *     halMockMvc.follow("users").pages().prefetch().items("users")
+ *         .filter(user -> user.path("active").asBoolean())
+ *         .count();
+ * }</pre>
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc.TraversalBuilder#pages()
+ */
+public class PagedTraversal {
+
+  private static final String EMBEDDED = "_embedded";
+
+  private final RequestExecutor requestExecutor;
+  private final ObjectMapper objectMapper;
+  private final LinkDiscoverer linkDiscoverer;
+  private final Callable<URI> firstPageUri;
+  private String nextRelation = IanaLinkRelations.NEXT_VALUE;
+  @Nullable private Executor prefetchExecutor;
+
+  PagedTraversal(
+      RequestExecutor requestExecutor,
+      ObjectMapper objectMapper,
+      LinkDiscoverer linkDiscoverer,
+      Callable<URI> firstPageUri) {
+    this.requestExecutor = requireNonNull(requestExecutor);
+    this.objectMapper = requireNonNull(objectMapper);
+    this.linkDiscoverer = requireNonNull(linkDiscoverer);
+    this.firstPageUri = requireNonNull(firstPageUri);
+  }
+
+  /**
+   * @param nextRelation The relation leading from a page to the next one. Defaults to {@code next}.
+   */
+  public PagedTraversal nextRelation(String nextRelation) {
+    this.nextRelation = requireNonNull(nextRelation);
+    return this;
+  }
+
+  /**
+   * Fetches the next page on a background thread while the current one is consumed. Tasks run on
+   * virtual threads when the JVM supports them, on a cached pool of daemon threads otherwise.
+   */
+  public PagedTraversal prefetch() {
+    return prefetch(AsyncHalMockMvc.defaultExecutor());
+  }
+
+  /** Fetches the next page on the provided executor while the current one is consumed. */
+  public PagedTraversal prefetch(Executor executor) {
+    this.prefetchExecutor = requireNonNull(executor);
+    return this;
+  }
+
+  /**
+   * @return A lazy stream of the pages. Closing the stream cancels any pending prefetch.
+   */
+  public Stream<Page> stream() {
+    PageIterator iterator = new PageIterator(nextRelation, prefetchExecutor);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(iterator::close);
+  }
+
+  /**
+   * @param relation The relation of the items under the {@code _embedded} section of each page
+   * @return A lazy stream of the items of every page
+   */
+  public Stream<JsonNode> items(String relation) {
+    requireNonNull(relation);
+    return stream().flatMap(page -> page.embedded(relation).stream());
+  }
+
+  private Page fetch(URI uri, int number, String nextRelation) throws Exception {
+    ResultActions resultActions = requestExecutor.fetchRelations(uri, nextRelation);
+    resultActions.andExpect(contentTypeIsCompatibleWithHal());
+    MockHttpServletResponse response = resultActions.andReturn().getResponse();
+    int status = response.getStatus();
+    if (status < 200 || status >= 300) {
+      throw new IllegalStateException(
+          "GET on %s failed with code %s and body '%s'"
+              .formatted(uri, status, response.getContentAsString()));
+    }
+    byte[] document = response.getContentAsByteArray();
+    URI nextUri =
+        linkDiscoverer
+            .findLinkWithRel(nextRelation, new ByteArrayInputStream(document))
+            .map(Link::expand)
+            .map(Link::toUri)
+            .orElse(null);
+    return new Page(number, uri, resultActions, document, nextUri);
+  }
+
+  private static RuntimeException propagate(Throwable throwable) {
+    Throwable cause =
+        throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException(cause);
+  }
+
+  /** A page of the collection */
+  public class Page {
+
+    private final int number;
+    private final URI uri;
+    private final ResultActions resultActions;
+    private final byte[] document;
+    @Nullable private final URI nextUri;
+
+    private Page(
+        int number, URI uri, ResultActions resultActions, byte[] document, @Nullable URI nextUri) {
+      this.number = number;
+      this.uri = requireNonNull(uri);
+      this.resultActions = requireNonNull(resultActions);
+      this.document = requireNonNull(document);
+      this.nextUri = nextUri;
+    }
+
+    /**
+     * @return The 0-based position of the page in the walk
+     */
+    public int number() {
+      return number;
+    }
+
+    public URI uri() {
+      return uri;
+    }
+
+    public ResultActions resultActions() {
+      return resultActions;
+    }
+
+    /**
+     * @return The items of the page under the provided {@code _embedded} relation
+     */
+    public List<JsonNode> embedded(String relation) {
+      JsonNode embedded = objectMapper.readTree(document).path(EMBEDDED).path(relation);
+      if (embedded.isArray()) {
+        return embedded.valueStream().toList();
+      }
+      if (embedded.isObject()) {
+        return List.of(embedded);
+      }
+      return List.of();
+    }
+
+    /**
+     * @return The HAL-FORMS templates of the page, parsed without dispatching any request. The page
+     *     response must have the HAL-FORMS content type, as for {@link
+     *     HalMockMvc.TraversalBuilder#templates()}.
+     */
+    public Templates templates() throws Exception {
+      return new Templates(requestExecutor, objectMapper, resultActions);
+    }
+  }
+
+  private class PageIterator implements Iterator<Page> {
+
+    private final String nextRelation;
+    @Nullable private final Executor prefetchExecutor;
+    private boolean started;
+    private int nextNumber;
+    @Nullable private URI nextUri;
+    @Nullable private CompletableFuture<Page> prefetchedPage;
+
+    private PageIterator(String nextRelation, @Nullable Executor prefetchExecutor) {
+      this.nextRelation = nextRelation;
+      this.prefetchExecutor = prefetchExecutor;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!started) {
+        started = true;
+        try {
+          nextUri = firstPageUri.call();
+        } catch (Exception e) {
+          throw propagate(e);
+        }
+      }
+      return nextUri != null || prefetchedPage != null;
+    }
+
+    @Override
+    public Page next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Page page;
+      try {
+        if (prefetchedPage != null) {
+          page = prefetchedPage.join();
+        } else {
+          page = fetch(requireNonNull(nextUri), nextNumber, nextRelation);
+        }
+      } catch (Exception e) {
+        throw propagate(e);
+      } finally {
+        prefetchedPage = null;
+        nextUri = null;
+      }
+      nextNumber = page.number + 1;
+      nextUri = page.nextUri;
+      if (prefetchExecutor != null && nextUri != null) {
+        URI uri = nextUri;
+        int number = nextNumber;
+        prefetchedPage =
+            CompletableFuture.supplyAsync(
+                () -> {
+                  try {
+                    return fetch(uri, number, nextRelation);
+                  } catch (Exception e) {
+                    throw new CompletionException(e);
+                  }
+                },
+                prefetchExecutor);
+        nextUri = null;
+      }
+      return page;
+    }
+
+    void close() {
+      if (prefetchedPage != null) {
+        prefetchedPage.cancel(false);
+        prefetchedPage = null;
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.cosium.hal_mock_mvc;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of the permanent redirects (301 and 308) followed by GET requests. A later GET request
+ * targeting a URI known to be permanently redirected is sent straight to the final target of the
+ * redirect chain.
+ *
+ * <p>An entry is keyed by the canonical form of the redirected URI only, as permanent redirects do
+ * not depend on the request headers. Contrary to {@link TraversalCache}, non-GET requests do not
+ * invalidate the cache. Call {@link #invalidateAll()} when a test changes the redirects.
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc.Builder#redirectCache(RedirectCache)
+ */
+public class RedirectCache {
+
+  private final Map<URI, URI> targetUriBySourceUri = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * @return The number of GET requests sent straight to a cached redirect target
+   */
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return The number of GET requests sent to their original URI
+   */
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /** Removes all entries from the cache */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    targetUriBySourceUri.clear();
+  }
+
+  long generation() {
+    return generation.get();
+  }
+
+  /**
+   * @param uri A canonical URI
+   * @return The canonical final target of the permanent redirects chain starting from {@code uri},
+   *     or {@code uri} itself if it is not known to be permanently redirected
+   */
+  URI resolve(URI uri) {
+    URI targetUri = targetUriBySourceUri.get(uri);
+    if (targetUri == null) {
+      missCount.incrementAndGet();
+      return uri;
+    }
+    hitCount.incrementAndGet();
+    Set<URI> visitedUris = new HashSet<>();
+    visitedUris.add(uri);
+    URI nextTargetUri;
+    while ((nextTargetUri = targetUriBySourceUri.get(targetUri)) != null
+        && visitedUris.add(targetUri)) {
+      targetUri = nextTargetUri;
+    }
+    return targetUri;
+  }
+
+  /**
+   * @param sourceUri The canonical URI that was permanently redirected
+   * @param targetUri The canonical URI {@code sourceUri} was redirected to
+   * @param resolutionGeneration The {@link #generation()} read before sending the request to {@code
+   *     sourceUri}
+   */
+  void put(URI sourceUri, URI targetUri, long resolutionGeneration) {
+    if (resolutionGeneration == generation.get()) {
+      targetUriBySourceUri.put(sourceUri, targetUri);
+    }
+  }
+}
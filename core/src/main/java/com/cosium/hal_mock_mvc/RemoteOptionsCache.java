@@ -0,0 +1,129 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * A bounded cache of the HAL-FORMS options lists fetched from a remote {@code link}. Forms
+ * validating a value against the same remote options will only fetch and index that list once.
+ *
+ * <p>An entry is keyed by the expanded options href, the options value field and the headers of the
+ * {@link HalMockMvc}. The least recently used entry is evicted once {@code maximumSize} is reached,
+ * and any entry is evicted {@code timeToLive} after being fetched.
+ *
+ * <p>Contrary to {@link TraversalCache}, non-GET requests do not invalidate the cache. Call {@link
+ * #invalidateAll()} when a test changes the options source.
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc.Builder#remoteOptionsCache(RemoteOptionsCache)
+ */
+public class RemoteOptionsCache {
+
+  private final int maximumSize;
+  private final long timeToLiveNanos;
+  private final Map<Key, Entry> entryByKey;
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * @param maximumSize The maximum number of options lists kept in the cache
+   * @param timeToLive The duration after which a fetched options list is evicted
+   */
+  public RemoteOptionsCache(int maximumSize, Duration timeToLive) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("maximumSize must be greater than 0");
+    }
+    requireNonNull(timeToLive);
+    if (timeToLive.isNegative()) {
+      throw new IllegalArgumentException("timeToLive must not be negative");
+    }
+    this.maximumSize = maximumSize;
+    this.timeToLiveNanos = saturatedNanos(timeToLive);
+    this.entryByKey =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > RemoteOptionsCache.this.maximumSize;
+          }
+        };
+  }
+
+  private static long saturatedNanos(Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * @return The number of options lists resolved from the cache
+   */
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return The number of options lists that had to be fetched
+   */
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /** Removes all entries from the cache */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    synchronized (entryByKey) {
+      entryByKey.clear();
+    }
+  }
+
+  TemplateOptionsInlineElements resolve(
+      URI optionsHref, String valueField, HttpHeaders headers, ElementsLoader loader)
+      throws Exception {
+    Key key = new Key(optionsHref, valueField, HttpHeaders.copyOf(headers));
+    long now = System.nanoTime();
+    synchronized (entryByKey) {
+      Entry entry = entryByKey.get(key);
+      if (entry != null && !entry.isExpired(now)) {
+        hitCount.incrementAndGet();
+        return entry.elements();
+      }
+      if (entry != null) {
+        entryByKey.remove(key);
+      }
+    }
+    missCount.incrementAndGet();
+
+    long resolutionGeneration = generation.get();
+    TemplateOptionsInlineElements elements = loader.load();
+    synchronized (entryByKey) {
+      if (resolutionGeneration == generation.get()) {
+        entryByKey.put(key, new Entry(elements, now, timeToLiveNanos));
+      }
+    }
+    return elements;
+  }
+
+  @FunctionalInterface
+  interface ElementsLoader {
+    TemplateOptionsInlineElements load() throws Exception;
+  }
+
+  private record Key(URI optionsHref, String valueField, HttpHeaders headers) {}
+
+  private record Entry(
+      TemplateOptionsInlineElements elements, long fetchedAtNanos, long timeToLiveNanos) {
+
+    boolean isExpired(long nowNanos) {
+      return nowNanos - fetchedAtNanos >= timeToLiveNanos;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Proxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * The {@link ResultActions} of a response answered by a {@link TraversalRecording} instead of
+ * {@link org.springframework.test.web.servlet.MockMvc}. No handler was involved, so the {@link
+ * MvcResult} only exposes the request and the response.
+ *
+ * <p>The {@link MvcResult} is a proxy because its other methods expose Spring Web MVC types, which
+ * this library does not depend on at compile time.
+ *
+ * @author Réda Housni Alaoui
+ */
+class ReplayedResultActions implements ResultActions {
+
+  private final MvcResult result;
+
+  ReplayedResultActions(MockHttpServletRequest request, MockHttpServletResponse response) {
+    requireNonNull(request);
+    requireNonNull(response);
+    this.result =
+        (MvcResult)
+            Proxy.newProxyInstance(
+                MvcResult.class.getClassLoader(),
+                new Class<?>[] {MvcResult.class},
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                      case "getRequest" -> request;
+                      case "getResponse" -> response;
+                      case "getAsyncResult" ->
+                          throw new IllegalStateException(
+                              "A replayed response has no async result");
+                      case "toString" -> "Replayed " + request.getRequestURI();
+                      case "hashCode" -> System.identityHashCode(proxy);
+                      case "equals" -> proxy == args[0];
+                      default -> null;
+                    });
+  }
+
+  @Override
+  public ResultActions andExpect(ResultMatcher matcher) throws Exception {
+    matcher.match(result);
+    return this;
+  }
+
+  @Override
+  public ResultActions andDo(ResultHandler handler) throws Exception {
+    handler.handle(result);
+    return this;
+  }
+
+  @Override
+  public MvcResult andReturn() {
+    return result;
+  }
+}
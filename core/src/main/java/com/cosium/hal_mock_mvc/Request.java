@@ -3,6 +3,7 @@ package com.cosium.hal_mock_mvc;
 import static java.util.Objects.requireNonNull;
 
 import java.net.URI;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -14,11 +15,12 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 public class Request {
 
   private final RequestExecutor requestExecutor;
+  private final URI uri;
   private final MockHttpServletRequestBuilder requestBuilder;
 
   Request(RequestExecutor requestExecutor, URI uri) {
     this.requestExecutor = requireNonNull(requestExecutor);
-    requireNonNull(uri, "Expected a non null get URI");
+    this.uri = requireNonNull(uri, "Expected a non null get URI");
     requestBuilder = MockMvcRequestBuilders.request("get", uri);
   }
 
@@ -69,6 +71,11 @@ public class Request {
           request.setMethod(httpMethod.toUpperCase());
           return request;
         });
-    return requestExecutor.execute(requestBuilder);
+    return requestExecutor.execute(
+        RequestKind.USER_REQUEST,
+        HttpMethod.valueOf(httpMethod.toUpperCase()),
+        uri,
+        null,
+        requestBuilder);
   }
 }
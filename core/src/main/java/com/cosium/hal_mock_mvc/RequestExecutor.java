@@ -4,16 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.AbstractMockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -24,106 +30,331 @@ import org.springframework.test.web.servlet.request.RequestPostProcessor;
  */
 class RequestExecutor {
 
-  private static final Set<Integer> REDIRECT_HTTP_CODES = Set.of(300, 301, 302, 303, 307, 308);
-
+  private final HalMockMvc halMockMvc;
   private final MockMvc mockMvc;
   private final List<RequestPostProcessor> postProcessors;
+  private final RequestPostProcessor postProcessorChain;
+  private final RequestPostProcessor noRelationPostProcessorChain;
+  private final Map<String, RequestPostProcessor> relationsPostProcessorChainByRelation =
+      new ConcurrentHashMap<>();
+  private final Function<String, RequestPostProcessor> relationsPostProcessorChainFactory =
+      relation -> relationsPostProcessorChain(Set.of(relation));
   private final List<RelationsRequestPostProcessor> relationsRequestPostProcessors;
+  private final List<ExecutionInterceptor> executionInterceptors;
+  private final Metrics metrics;
   private final HttpHeaders httpHeaders;
+  @Nullable private final TraversalCache traversalCache;
+  @Nullable private final RemoteOptionsCache remoteOptionsCache;
+  private final int maxRedirects;
+  @Nullable private final RedirectCache redirectCache;
+  @Nullable private final SingleFlight singleFlight;
 
   public RequestExecutor(
+      HalMockMvc halMockMvc,
       MockMvc mockMvc,
       List<RequestPostProcessor> postProcessors,
       List<RelationsRequestPostProcessor> relationsRequestPostProcessors,
-      HttpHeaders httpHeaders) {
+      List<ExecutionInterceptor> executionInterceptors,
+      Metrics metrics,
+      HttpHeaders httpHeaders,
+      @Nullable TraversalCache traversalCache,
+      @Nullable RemoteOptionsCache remoteOptionsCache,
+      int maxRedirects,
+      @Nullable RedirectCache redirectCache,
+      @Nullable SingleFlight singleFlight) {
+    this.halMockMvc = requireNonNull(halMockMvc);
     this.mockMvc = requireNonNull(mockMvc);
     this.postProcessors = List.copyOf(postProcessors);
-    this.relationsRequestPostProcessors = requireNonNull(relationsRequestPostProcessors);
+    this.postProcessorChain = chain(this.postProcessors);
+    this.relationsRequestPostProcessors = List.copyOf(relationsRequestPostProcessors);
+    this.noRelationPostProcessorChain = relationsPostProcessorChain(Set.of());
+    this.executionInterceptors = List.copyOf(executionInterceptors);
+    this.metrics = requireNonNull(metrics);
     this.httpHeaders = requireNonNull(httpHeaders);
+    this.traversalCache = traversalCache;
+    this.remoteOptionsCache = remoteOptionsCache;
+    this.maxRedirects = maxRedirects;
+    this.redirectCache = redirectCache;
+    this.singleFlight = singleFlight;
+  }
+
+  public HttpHeaders httpHeaders() {
+    return httpHeaders;
+  }
+
+  public Metrics metrics() {
+    return metrics;
   }
 
-  public ResultActions fetchRelations(URI targetUri, String... desiredRelations) throws Exception {
-    List<RequestPostProcessor> requestPostProcessors =
-        Stream.concat(
-                postProcessors.stream(),
-                relationsRequestPostProcessors.stream()
-                    .map(toRequestPostProcessor(desiredRelations)))
-            .toList();
+  public Optional<RemoteOptionsCache> remoteOptionsCache() {
+    return Optional.ofNullable(remoteOptionsCache);
+  }
+
+  public ResultActions fetchRelations(URI targetUri) throws Exception {
+    return fetchRelations(targetUri, HttpHeaders.EMPTY, null);
+  }
 
-    return doExecute(MockMvcRequestBuilders.get(targetUri), requestPostProcessors);
+  public ResultActions fetchRelations(URI targetUri, String desiredRelation) throws Exception {
+    return fetchRelations(targetUri, HttpHeaders.EMPTY, requireNonNull(desiredRelation));
   }
 
-  public ResultActions execute(AbstractMockHttpServletRequestBuilder<?> requestBuilder)
+  /**
+   * @param additionalHeaders Headers sent on top of {@link #httpHeaders()}
+   * @param desiredRelation The relation looked up for, if any
+   */
+  public ResultActions fetchRelations(
+      URI targetUri, HttpHeaders additionalHeaders, @Nullable String desiredRelation)
       throws Exception {
+    RequestPostProcessor requestPostProcessor = relationsPostProcessorChain(desiredRelation);
 
-    return doExecute(requestBuilder, postProcessors);
+    ExecutionInterceptor.Execution execution =
+        new ExecutionInterceptor.Execution(
+            RequestKind.RELATION_FETCH,
+            HttpMethod.GET,
+            targetUri,
+            MockMvcRequestBuilders.get(targetUri).headers(additionalHeaders));
+    if (singleFlight == null) {
+      return doExecute(execution, desiredRelation, requestPostProcessor);
+    }
+    HttpHeaders requestHeaders = httpHeaders;
+    if (!additionalHeaders.isEmpty()) {
+      requestHeaders = HttpHeaders.copyOf(httpHeaders);
+      requestHeaders.putAll(additionalHeaders);
+    }
+    return singleFlight.execute(
+        new SingleFlight.Key(
+            CanonicalUris.canonicalize(targetUri),
+            requestHeaders,
+            List.of(
+                postProcessors,
+                relationsRequestPostProcessors,
+                Optional.ofNullable(desiredRelation))),
+        () -> doExecute(execution, desiredRelation, requestPostProcessor));
+  }
+
+  /**
+   * @param kind The reason of the request
+   * @param httpMethod The method the request builder was configured with
+   * @param uri The URI the request builder was configured with
+   * @param metricsTag The template key or property name the request relates to, if any
+   */
+  public ResultActions execute(
+      RequestKind kind,
+      HttpMethod httpMethod,
+      URI uri,
+      @Nullable String metricsTag,
+      AbstractMockHttpServletRequestBuilder<?> requestBuilder)
+      throws Exception {
+
+    ExecutionInterceptor.Execution execution =
+        new ExecutionInterceptor.Execution(kind, httpMethod, uri, requestBuilder);
+    if (singleFlight == null
+        || kind != RequestKind.OPTIONS_FETCH
+        || !HttpMethod.GET.equals(httpMethod)) {
+      return doExecute(execution, metricsTag, postProcessorChain);
+    }
+    return singleFlight.execute(
+        new SingleFlight.Key(CanonicalUris.canonicalize(uri), httpHeaders, List.of(postProcessors)),
+        () -> doExecute(execution, metricsTag, postProcessorChain));
   }
 
   public HalMockMvc assertCreatedAndShift(ResultActions resultActions) throws Exception {
-    String location =
-        resultActions
-            .andExpect(status().isCreated())
-            .andReturn()
-            .getResponse()
-            .getHeader("Location");
+    MvcResult result = resultActions.andExpect(status().isCreated()).andReturn();
+    String location = result.getResponse().getHeader("Location");
 
     requireNonNull(location, "No header 'Location' found");
 
-    return shiftTo(location);
+    return halMockMvc.shiftToCreated(location, resultActions);
   }
 
   public HalMockMvc assert204NoContentAndResume(ResultActions resultActions) throws Exception {
     resultActions.andExpect(status().isNoContent());
     String requestURI = resultActions.andReturn().getRequest().getRequestURI();
-    return shiftTo(requestURI);
+    return halMockMvc.shiftTo(requestURI);
   }
 
   private ResultActions doExecute(
-      AbstractMockHttpServletRequestBuilder<?> requestBuilder,
-      List<RequestPostProcessor> requestPostProcessors)
+      ExecutionInterceptor.Execution execution,
+      @Nullable String metricsTag,
+      RequestPostProcessor requestPostProcessor)
       throws Exception {
 
-    requestPostProcessors.forEach(requestBuilder::with);
-    return doExecute(requestBuilder.accept(MediaTypes.HAL_FORMS_JSON).headers(httpHeaders));
+    AbstractMockHttpServletRequestBuilder<?> requestBuilder = execution.requestBuilder();
+    requestBuilder.with(requestPostProcessor);
+    requestBuilder.accept(MediaTypes.HAL_FORMS_JSON).headers(httpHeaders);
+    if (HttpMethod.GET.equals(execution.httpMethod()) && redirectCache != null) {
+      URI canonicalUri = CanonicalUris.canonicalize(execution.uri());
+      URI targetUri = redirectCache.resolve(canonicalUri);
+      if (!targetUri.equals(canonicalUri)) {
+        requestBuilder.uri(targetUri);
+        execution =
+            new ExecutionInterceptor.Execution(
+                execution.kind(), execution.httpMethod(), targetUri, requestBuilder);
+      }
+    }
+    return doExecute(execution, metricsTag);
+  }
+
+  private ResultActions doExecute(
+      ExecutionInterceptor.Execution execution, @Nullable String metricsTag) throws Exception {
+    AbstractMockHttpServletRequestBuilder<?> requestBuilder = execution.requestBuilder();
+    List<URI> redirectedUris = null;
+    while (true) {
+      long redirectCacheGeneration = redirectCache == null ? 0 : redirectCache.generation();
+      ResultActions resultActions = perform(execution, metricsTag);
+      MvcResult result = resultActions.andReturn();
+
+      String httpMethod = result.getRequest().getMethod();
+      if (!HttpMethod.GET.matches(httpMethod)) {
+        if (traversalCache != null) {
+          traversalCache.invalidateAll();
+        }
+        return resultActions;
+      }
+
+      MockHttpServletResponse response = result.getResponse();
+      if (!isRedirect(response.getStatus())) {
+        return resultActions;
+      }
+      String location = response.getHeader("Location");
+      if (location == null) {
+        return resultActions;
+      }
+
+      URI requestUri = CanonicalUris.canonicalize(requestUri(result.getRequest()));
+      URI locationUri = URI.create(location);
+      URI targetUri = CanonicalUris.canonicalize(requestUri.resolve(locationUri));
+      if (redirectedUris == null) {
+        redirectedUris = new ArrayList<>();
+      }
+      redirectedUris.add(requestUri);
+      if (redirectedUris.contains(targetUri)) {
+        throw new IllegalStateException(
+            "Redirect loop detected: %s -> %s"
+                .formatted(
+                    redirectedUris.stream().map(URI::toString).collect(Collectors.joining(" -> ")),
+                    targetUri));
+      }
+      if (redirectedUris.size() > maxRedirects) {
+        throw new IllegalStateException(
+            "Exceeded the maximum of %s redirects while following %s"
+                .formatted(maxRedirects, redirectedUris.get(0)));
+      }
+      if (redirectCache != null && isPermanentRedirect(response.getStatus())) {
+        redirectCache.put(requestUri, targetUri, redirectCacheGeneration);
+      }
+
+      requestBuilder.uri(locationUri);
+      execution =
+          new ExecutionInterceptor.Execution(
+              execution.kind(), HttpMethod.GET, locationUri, requestBuilder);
+    }
+  }
+
+  private ResultActions perform(
+      ExecutionInterceptor.Execution execution, @Nullable String metricsTag) throws Exception {
+    if (executionInterceptors.isEmpty()) {
+      return dispatch(execution, metricsTag);
+    }
+    return proceed(0, execution, metricsTag);
   }
 
-  private ResultActions doExecute(AbstractMockHttpServletRequestBuilder<?> requestBuilder)
+  private ResultActions proceed(
+      int interceptorIndex, ExecutionInterceptor.Execution execution, @Nullable String metricsTag)
       throws Exception {
+    requireNonNull(execution);
+    if (interceptorIndex == executionInterceptors.size()) {
+      return dispatch(execution, metricsTag);
+    }
+    return executionInterceptors
+        .get(interceptorIndex)
+        .intercept(
+            execution, nextExecution -> proceed(interceptorIndex + 1, nextExecution, metricsTag));
+  }
 
-    ResultActions resultActions = mockMvc.perform(requestBuilder);
+  private ResultActions dispatch(
+      ExecutionInterceptor.Execution execution, @Nullable String metricsTag) throws Exception {
+    long start = metrics.start();
+    ResultActions resultActions = mockMvc.perform(execution.requestBuilder());
+    if (metrics.enabled()) {
+      long durationNanos = metrics.elapsedSince(start);
+      metrics.record(
+          MetricsListener.Phase.DISPATCH,
+          execution.kind(),
+          execution.uri(),
+          metricsTag,
+          durationNanos,
+          resultActions.andReturn().getResponse().getContentAsByteArray().length);
+    }
+    return resultActions;
+  }
 
-    HttpMethod httpMethod =
-        Optional.ofNullable(resultActions.andReturn().getRequest().getMethod())
-            .map(HttpMethod::valueOf)
-            .orElse(null);
-    if (!HttpMethod.GET.equals(httpMethod)) {
-      return resultActions;
+  private static URI requestUri(MockHttpServletRequest request) {
+    StringBuffer requestUrl = request.getRequestURL();
+    String queryString = request.getQueryString();
+    if (queryString != null) {
+      requestUrl.append('?').append(queryString);
     }
+    return URI.create(requestUrl.toString());
+  }
 
-    MockHttpServletResponse response = resultActions.andReturn().getResponse();
-    if (!REDIRECT_HTTP_CODES.contains(response.getStatus())) {
-      return resultActions;
+  /**
+   * @return {@link #postProcessorChain} followed by the relations request post-processors, which
+   *     are provided the desired relation. The chain is composed once per relation.
+   */
+  private RequestPostProcessor relationsPostProcessorChain(@Nullable String desiredRelation) {
+    if (desiredRelation == null) {
+      return noRelationPostProcessorChain;
     }
-    String location = response.getHeader("Location");
-    if (location == null) {
-      return resultActions;
+    if (relationsRequestPostProcessors.isEmpty()) {
+      return postProcessorChain;
     }
+    return relationsPostProcessorChainByRelation.computeIfAbsent(
+        desiredRelation, relationsPostProcessorChainFactory);
+  }
 
-    return doExecute(requestBuilder.uri(URI.create(location)));
+  private RequestPostProcessor relationsPostProcessorChain(Set<String> desiredRelations) {
+    if (relationsRequestPostProcessors.isEmpty()) {
+      return postProcessorChain;
+    }
+    return request -> {
+      MockHttpServletRequest processedRequest = postProcessorChain.postProcessRequest(request);
+      for (RelationsRequestPostProcessor relationsRequestPostProcessor :
+          relationsRequestPostProcessors) {
+        processedRequest =
+            relationsRequestPostProcessor.postProcessRequest(processedRequest, desiredRelations);
+      }
+      return processedRequest;
+    };
+  }
+
+  /**
+   * @return A single post-processor applying {@code postProcessors} in order
+   */
+  private static RequestPostProcessor chain(List<RequestPostProcessor> postProcessors) {
+    if (postProcessors.isEmpty()) {
+      return request -> request;
+    }
+    if (postProcessors.size() == 1) {
+      return postProcessors.get(0);
+    }
+    return request -> {
+      MockHttpServletRequest processedRequest = request;
+      for (RequestPostProcessor postProcessor : postProcessors) {
+        processedRequest = postProcessor.postProcessRequest(processedRequest);
+      }
+      return processedRequest;
+    };
   }
 
-  private HalMockMvc shiftTo(String location) {
-    return HalMockMvc.builder(mockMvc)
-        .baseUri(location)
-        .requestPostProcessors(postProcessors)
-        .headers(httpHeaders)
-        .build();
+  private static boolean isRedirect(int httpStatus) {
+    return switch (httpStatus) {
+      case 300, 301, 302, 303, 307, 308 -> true;
+      default -> false;
+    };
   }
 
-  private Function<RelationsRequestPostProcessor, RequestPostProcessor> toRequestPostProcessor(
-      String... desiredRelations) {
-    return relationsRequestPostProcessor ->
-        request ->
-            relationsRequestPostProcessor.postProcessRequest(request, Set.of(desiredRelations));
+  private static boolean isPermanentRedirect(int httpStatus) {
+    return httpStatus == 301 || httpStatus == 308;
   }
 }
@@ -0,0 +1,22 @@
+package com.cosium.hal_mock_mvc;
+
+/**
+ * The reason why a {@link HalMockMvc} dispatches a request to {@link
+ * org.springframework.test.web.servlet.MockMvc}. A request emitted to follow a redirect has the
+ * kind of the request that was redirected.
+ *
+ * @author Réda Housni Alaoui
+ * @see ExecutionInterceptor
+ */
+public enum RequestKind {
+  /** A GET request fetching the relations of a traversal hop */
+  RELATION_FETCH,
+  /** A HAL-FORMS template submission */
+  TEMPLATE_SUBMISSION,
+  /** A GET request fetching the remote options of a HAL-FORMS template property */
+  OPTIONS_FETCH,
+  /** A GET request fetching the HAL-FORMS templates of the final endpoint of a traversal */
+  TEMPLATES_FETCH,
+  /** A request targeting the final endpoint of a traversal */
+  USER_REQUEST
+}
@@ -0,0 +1,117 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Coalesces identical GET relation fetches and options fetches running at the same time. The first
+ * request dispatches to {@link org.springframework.test.web.servlet.MockMvc}. The identical
+ * requests issued while it is in flight wait for it and share its result, including the links
+ * parsed from it. Each caller gets its own {@link ResultActions}.
+ *
+ * <p>Requests are identical when they have the same canonical URI, the same headers and the same
+ * request post-processors, compared with {@link Object#equals(Object)}. Contrary to {@link
+ * TraversalCache}, nothing is kept once a dispatch completes. An instance can be shared by any
+ * number of {@link HalMockMvc}.
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc.Builder#singleFlight(SingleFlight)
+ */
+public class SingleFlight {
+
+  private final Map<Key, CompletableFuture<Flight>> flightByKey = new ConcurrentHashMap<>();
+  private final AtomicLong dispatchCount = new AtomicLong();
+  private final AtomicLong coalescedCount = new AtomicLong();
+
+  /**
+   * @return The number of requests that were dispatched
+   */
+  public long dispatchCount() {
+    return dispatchCount.get();
+  }
+
+  /**
+   * @return The number of requests that shared the dispatch of an identical request
+   */
+  public long coalescedCount() {
+    return coalescedCount.get();
+  }
+
+  ResultActions execute(Key key, Callable<ResultActions> dispatch) throws Exception {
+    CompletableFuture<Flight> flight = new CompletableFuture<>();
+    CompletableFuture<Flight> inFlight = flightByKey.putIfAbsent(key, flight);
+    if (inFlight != null) {
+      coalescedCount.incrementAndGet();
+      try {
+        return new CoalescedResultActions(inFlight.join());
+      } catch (CompletionException e) {
+        throw rethrow(e.getCause());
+      }
+    }
+    dispatchCount.incrementAndGet();
+    try {
+      Flight completedFlight = new Flight(dispatch.call().andReturn());
+      flight.complete(completedFlight);
+      return new CoalescedResultActions(completedFlight);
+    } catch (Throwable e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      flightByKey.remove(key, flight);
+    }
+  }
+
+  private static Exception rethrow(Throwable throwable) {
+    if (throwable instanceof Exception exception) {
+      return exception;
+    }
+    if (throwable instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException(throwable);
+  }
+
+  /**
+   * @param uri The canonical URI of the request
+   * @param headers The headers of the request
+   * @param postProcessorSignature The request post-processors of the request
+   */
+  record Key(URI uri, HttpHeaders headers, List<Object> postProcessorSignature) {
+    Key {
+      requireNonNull(uri);
+      headers = HttpHeaders.copyOf(headers);
+      postProcessorSignature = List.copyOf(postProcessorSignature);
+    }
+  }
+
+  /** The result of a dispatch shared by identical requests */
+  static class Flight {
+
+    private final MvcResult result;
+    private final Map<String, List<Link>> linksByRelation = new ConcurrentHashMap<>();
+
+    private Flight(MvcResult result) {
+      this.result = requireNonNull(result);
+    }
+
+    MvcResult result() {
+      return result;
+    }
+
+    Map<String, List<Link>> linksByRelation() {
+      return linksByRelation;
+    }
+  }
+}
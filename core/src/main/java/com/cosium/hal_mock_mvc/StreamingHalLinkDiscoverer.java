@@ -0,0 +1,154 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.http.MediaType;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactory;
+
+/**
+ * A HAL {@link LinkDiscoverer} pulling tokens from the representation with a streaming {@link
+ * JsonParser}. Only the top-level {@code _links.<rel>} entry is visited. Every other member,
+ * including {@code _embedded}, is skipped without being materialized.
+ *
+ * @author Réda Housni Alaoui
+ */
+class StreamingHalLinkDiscoverer implements LinkDiscoverer {
+
+  static final StreamingHalLinkDiscoverer INSTANCE = new StreamingHalLinkDiscoverer();
+
+  private static final String LINKS = "_links";
+
+  private final JsonFactory jsonFactory = new JsonFactory();
+
+  @Override
+  public Optional<Link> findLinkWithRel(LinkRelation relation, String representation) {
+    return findLinksWithRel(relation, representation).stream().findFirst();
+  }
+
+  @Override
+  public Optional<Link> findLinkWithRel(LinkRelation relation, InputStream representation) {
+    return findLinksWithRel(relation, representation).stream().findFirst();
+  }
+
+  @Override
+  public Links findLinksWithRel(LinkRelation relation, String representation) {
+    try (JsonParser parser = jsonFactory.createParser(ObjectReadContext.empty(), representation)) {
+      return findLinksWithRel(relation, parser);
+    }
+  }
+
+  @Override
+  public Links findLinksWithRel(LinkRelation relation, InputStream representation) {
+    try (JsonParser parser = jsonFactory.createParser(ObjectReadContext.empty(), representation)) {
+      return findLinksWithRel(relation, parser);
+    }
+  }
+
+  @Override
+  public boolean supports(MediaType delimiter) {
+    return MediaTypes.HAL_JSON.isCompatibleWith(delimiter)
+        || MediaTypes.HAL_FORMS_JSON.isCompatibleWith(delimiter);
+  }
+
+  private Links findLinksWithRel(LinkRelation relation, JsonParser parser) {
+    requireNonNull(relation);
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return Links.NONE;
+    }
+    String propertyName;
+    while ((propertyName = parser.nextName()) != null) {
+      JsonToken valueToken = parser.nextToken();
+      if (!LINKS.equals(propertyName) || valueToken != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      return readRelation(relation, parser);
+    }
+    return Links.NONE;
+  }
+
+  private Links readRelation(LinkRelation relation, JsonParser parser) {
+    String relationName;
+    while ((relationName = parser.nextName()) != null) {
+      JsonToken valueToken = parser.nextToken();
+      if (!relation.value().equals(relationName)) {
+        parser.skipChildren();
+        continue;
+      }
+      if (valueToken == JsonToken.START_OBJECT) {
+        return Links.of(readLink(relation, parser));
+      }
+      if (valueToken != JsonToken.START_ARRAY) {
+        parser.skipChildren();
+        continue;
+      }
+      List<Link> links = new ArrayList<>();
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+          links.add(readLink(relation, parser));
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return Links.of(links);
+    }
+    return Links.NONE;
+  }
+
+  private Link readLink(LinkRelation relation, JsonParser parser) {
+    String href = null;
+    String hreflang = null;
+    String media = null;
+    String title = null;
+    String type = null;
+    String deprecation = null;
+    String profile = null;
+    String name = null;
+
+    String attributeName;
+    while ((attributeName = parser.nextName()) != null) {
+      JsonToken valueToken = parser.nextToken();
+      if (valueToken.isStructStart()) {
+        parser.skipChildren();
+        continue;
+      }
+      String value = parser.getValueAsString();
+      switch (attributeName) {
+        case "href" -> href = value;
+        case "hreflang" -> hreflang = value;
+        case "media" -> media = value;
+        case "title" -> title = value;
+        case "type" -> type = value;
+        case "deprecation" -> deprecation = value;
+        case "profile" -> profile = value;
+        case "name" -> name = value;
+        default -> {}
+      }
+    }
+
+    if (href == null) {
+      throw new IllegalStateException("No href found in link data!");
+    }
+
+    return Link.of(href, relation)
+        .withHreflang(hreflang)
+        .withMedia(media)
+        .withTitle(title)
+        .withType(type)
+        .withDeprecation(deprecation)
+        .withProfile(profile)
+        .withName(name);
+  }
+}
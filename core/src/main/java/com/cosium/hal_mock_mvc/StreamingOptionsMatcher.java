@@ -0,0 +1,82 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Matches values against a HAL-FORMS options array by pulling tokens with a streaming {@link
+ * JsonParser} straight from the response bytes, without decoding the whole document into a {@link
+ * String}. Parsing stops as soon as every value is matched. Only the {@code valueField} member of
+ * each element is read.
+ *
+ * <p>A negative answer does not mean a value is invalid. It means the caller must fall back to a
+ * full {@link TemplateOptionsInlineElements} validation, which builds the detailed error message.
+ *
+ * @author Réda Housni Alaoui
+ */
+class StreamingOptionsMatcher {
+
+  private final ObjectMapper objectMapper;
+  private final String valueField;
+
+  StreamingOptionsMatcher(ObjectMapper objectMapper, String valueField) {
+    this.objectMapper = requireNonNull(objectMapper);
+    this.valueField = requireNonNull(valueField);
+  }
+
+  /**
+   * @return True if the options array is not empty and contains all the values. False if the array
+   *     ended before all values were found, or if an element could not be read.
+   */
+  public boolean matchesAll(byte[] optionsDocument, Collection<String> values) {
+    Set<String> unmatchedValues = new HashSet<>(values);
+    try (JsonParser parser = objectMapper.createParser(optionsDocument)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        return false;
+      }
+      JsonToken elementToken = parser.nextToken();
+      if (elementToken == JsonToken.END_ARRAY) {
+        return false;
+      }
+      while (elementToken != JsonToken.END_ARRAY) {
+        if (unmatchedValues.isEmpty()) {
+          return true;
+        }
+        if (elementToken == JsonToken.VALUE_STRING) {
+          unmatchedValues.remove(parser.getString());
+        } else if (elementToken == JsonToken.START_OBJECT) {
+          String value = readValueField(parser);
+          if (value != null) {
+            unmatchedValues.remove(value);
+          }
+        } else {
+          return false;
+        }
+        elementToken = parser.nextToken();
+      }
+      return unmatchedValues.isEmpty();
+    }
+  }
+
+  private String readValueField(JsonParser parser) {
+    String value = null;
+    String fieldName;
+    while ((fieldName = parser.nextName()) != null) {
+      JsonToken valueToken = parser.nextToken();
+      if (valueToken.isStructStart()) {
+        parser.skipChildren();
+        continue;
+      }
+      if (valueField.equals(fieldName)) {
+        value = parser.getValueAsString();
+      }
+    }
+    return value;
+  }
+}
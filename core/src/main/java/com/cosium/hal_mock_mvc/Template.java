@@ -3,8 +3,11 @@ package com.cosium.hal_mock_mvc;
 import static java.util.Objects.requireNonNull;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpMethod;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -82,17 +85,26 @@ public class Template implements SubmittableTemplate {
    * @param content The content to submit
    */
   public ResultActions submit(String content) throws Exception {
-    MockHttpServletRequestBuilder requestBuilder =
-        MockMvcRequestBuilders.request(httpMethod, target);
+    return submitContent(content == null ? null : content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  ResultActions submitContent(byte @Nullable [] content) throws Exception {
+    HttpMethod method = HttpMethod.valueOf(httpMethod);
+    MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.request(method, target);
     if (content != null) {
       requestBuilder = requestBuilder.contentType(representation.contentType()).content(content);
     }
-    return requestExecutor.execute(requestBuilder);
+    return requestExecutor.execute(
+        RequestKind.TEMPLATE_SUBMISSION, method, target, key, requestBuilder);
+  }
+
+  URI target() {
+    return target;
   }
 
   /** Begins a Template multipart submission. */
   public TemplateMultipartRequest multipart() {
-    return new TemplateMultipartRequest(requestExecutor, httpMethod, target);
+    return new TemplateMultipartRequest(requestExecutor, httpMethod, target, key);
   }
 
   /**
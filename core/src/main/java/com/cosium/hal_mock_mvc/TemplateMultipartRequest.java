@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.servlet.http.Part;
 import java.net.URI;
+import org.springframework.http.HttpMethod;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
@@ -15,10 +16,17 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 public class TemplateMultipartRequest implements SubmittableTemplate {
 
   private final RequestExecutor requestExecutor;
+  private final HttpMethod httpMethod;
+  private final URI uri;
+  private final String templateKey;
   private final MockMultipartHttpServletRequestBuilder requestBuilder;
 
-  TemplateMultipartRequest(RequestExecutor requestExecutor, String httpMethod, URI uri) {
+  TemplateMultipartRequest(
+      RequestExecutor requestExecutor, String httpMethod, URI uri, String templateKey) {
     this.requestExecutor = requireNonNull(requestExecutor);
+    this.httpMethod = HttpMethod.valueOf(httpMethod);
+    this.uri = requireNonNull(uri);
+    this.templateKey = requireNonNull(templateKey);
     requestBuilder = MockMvcRequestBuilders.multipart(uri);
     requestBuilder.with(
         request -> {
@@ -44,7 +52,8 @@ public class TemplateMultipartRequest implements SubmittableTemplate {
 
   @Override
   public ResultActions submit() throws Exception {
-    return requestExecutor.execute(requestBuilder);
+    return requestExecutor.execute(
+        RequestKind.TEMPLATE_SUBMISSION, httpMethod, uri, templateKey, requestBuilder);
   }
 
   @Override
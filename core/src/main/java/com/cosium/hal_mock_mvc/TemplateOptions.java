@@ -9,7 +9,10 @@ import com.cosium.hal_mock_mvc.template.options.OptionsLinkRepresentation;
 import com.cosium.hal_mock_mvc.template.options.OptionsRepresentation;
 import java.net.URI;
 import java.util.List;
+import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.Link;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.servlet.ResultActions;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 
@@ -18,20 +21,23 @@ import tools.jackson.databind.ObjectMapper;
  */
 class TemplateOptions {
 
-  private final RequestExecutor requestExecutor;
-  private final ObjectMapper objectMapper;
   private final OptionsRepresentation representation;
+  private final String valueField;
+  private final @Nullable TemplateOptionsInlineElements inlineElements;
 
-  TemplateOptions(
-      RequestExecutor requestExecutor,
-      ObjectMapper objectMapper,
-      OptionsRepresentation representation) {
-    this.requestExecutor = requireNonNull(requestExecutor);
-    this.objectMapper = requireNonNull(objectMapper);
+  TemplateOptions(OptionsRepresentation representation) {
     this.representation = requireNonNull(representation);
+    this.valueField = representation.valueField().orElse("value");
+    this.inlineElements =
+        representation
+            .inline()
+            .map(elements -> new TemplateOptionsInlineElements(valueField, elements))
+            .orElse(null);
   }
 
-  public <T> ValidatedFormProperty<T> validate(FormProperty<T> property) throws Exception {
+  public <T> ValidatedFormProperty<T> validate(
+      FormProperty<T> property, RequestExecutor requestExecutor, ObjectMapper objectMapper)
+      throws Exception {
     if (!String.class.equals(property.valueType())) {
 
       return ValidatedFormProperty.invalidBuilder(property)
@@ -66,13 +72,8 @@ class TemplateOptions {
     @SuppressWarnings("unchecked")
     FormProperty<String> stringProperty = (FormProperty<String>) property;
 
-    String valueField = representation.valueField().orElse("value");
-
-    List<InlineElementRepresentation> inlineElements = representation.inline().orElse(null);
     if (inlineElements != null) {
-      return new TemplateOptionsInlineElements(valueField, inlineElements)
-          .validate(stringProperty)
-          .mapTo(property);
+      return inlineElements.validate(stringProperty).mapTo(property);
     }
 
     OptionsLinkRepresentation optionsLink = representation.link().orElse(null);
@@ -84,24 +85,50 @@ class TemplateOptions {
                   .formatted(property.name()));
     }
 
-    return new TemplateOptionsInlineElements(valueField, fetchRemoteElements(optionsLink))
-        .validate(stringProperty)
-        .mapTo(property);
-  }
-
-  private List<InlineElementRepresentation> fetchRemoteElements(
-      OptionsLinkRepresentation optionsLink) throws Exception {
+    URI optionsHref = Link.of(optionsLink.href()).expand().toUri();
+    RemoteOptionsCache remoteOptionsCache = requestExecutor.remoteOptionsCache().orElse(null);
+    if (remoteOptionsCache != null) {
+      return remoteOptionsCache
+          .resolve(
+              optionsHref,
+              valueField,
+              requestExecutor.httpHeaders(),
+              () ->
+                  toInlineElements(
+                      objectMapper, fetchRawOptions(requestExecutor, optionsHref, property.name())))
+          .validate(stringProperty)
+          .mapTo(property);
+    }
 
-    String optionsHref = Link.of(optionsLink.href()).expand().toUri().toString();
+    byte[] rawOptions = fetchRawOptions(requestExecutor, optionsHref, property.name());
+    if (new StreamingOptionsMatcher(objectMapper, valueField)
+        .matchesAll(rawOptions, stringProperty.values())) {
+      return ValidatedFormProperty.markAsValid(property);
+    }
+    return toInlineElements(objectMapper, rawOptions).validate(stringProperty).mapTo(property);
+  }
 
-    String rawOptions =
+  private byte[] fetchRawOptions(
+      RequestExecutor requestExecutor, URI optionsHref, String propertyName) throws Exception {
+    JfrEvents.OptionsFetchEvent event = new JfrEvents.OptionsFetchEvent();
+    event.begin();
+    ResultActions resultActions =
         requestExecutor
-            .execute(get(URI.create(optionsHref)))
-            .andExpect(status().is2xxSuccessful())
-            .andReturn()
-            .getResponse()
-            .getContentAsString();
+            .execute(
+                RequestKind.OPTIONS_FETCH,
+                HttpMethod.GET,
+                optionsHref,
+                propertyName,
+                get(optionsHref))
+            .andExpect(status().is2xxSuccessful());
+    event.commit(propertyName, optionsHref, resultActions);
+    return resultActions.andReturn().getResponse().getContentAsByteArray();
+  }
 
-    return objectMapper.readValue(rawOptions, new TypeReference<>() {});
+  private TemplateOptionsInlineElements toInlineElements(
+      ObjectMapper objectMapper, byte[] rawOptions) {
+    List<InlineElementRepresentation> elements =
+        objectMapper.readValue(rawOptions, new TypeReference<>() {});
+    return new TemplateOptionsInlineElements(valueField, elements);
   }
 }
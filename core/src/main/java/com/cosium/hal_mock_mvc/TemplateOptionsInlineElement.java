@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import com.cosium.hal_mock_mvc.template.options.InlineElementRepresentation;
 import com.cosium.hal_mock_mvc.template.options.MapInlineElementRepresentation;
 import com.cosium.hal_mock_mvc.template.options.StringInlineElementRepresentation;
+import org.jspecify.annotations.Nullable;
 
 /**
  * @author Réda Housni Alaoui
@@ -19,15 +20,18 @@ class TemplateOptionsInlineElement {
     this.representation = requireNonNull(representation);
   }
 
-  public boolean matches(String value) {
+  /**
+   * @return The value a submitted value must be equal to in order to match this element
+   */
+  public @Nullable Object value() {
     if (representation instanceof MapInlineElementRepresentation mapInlineElementRepresentation) {
 
-      return value.equals(mapInlineElementRepresentation.map().get(valueField));
+      return mapInlineElementRepresentation.map().get(valueField);
 
     } else if (representation
         instanceof StringInlineElementRepresentation stringInlineElementRepresentation) {
 
-      return value.equals(stringInlineElementRepresentation.value());
+      return stringInlineElementRepresentation.value();
 
     } else {
       throw new IllegalArgumentException("Unexpected type %s".formatted(representation.getClass()));
@@ -3,19 +3,37 @@ package com.cosium.hal_mock_mvc;
 import static java.util.Objects.requireNonNull;
 
 import com.cosium.hal_mock_mvc.template.options.InlineElementRepresentation;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
+ * An immutable index of option elements by value. It is meant to be built once per options list
+ * then reused for every validation.
+ *
  * @author Réda Housni Alaoui
  */
 class TemplateOptionsInlineElements {
-  private final String valueField;
+
+  private static final int MAX_DESCRIBED_ELEMENTS = 10;
+
   private final List<InlineElementRepresentation> representations;
+  private final Set<Object> values;
 
   TemplateOptionsInlineElements(
       String valueField, List<InlineElementRepresentation> representations) {
-    this.valueField = requireNonNull(valueField);
+    requireNonNull(valueField);
     this.representations = List.copyOf(representations);
+    Set<Object> mutableValues = new HashSet<>();
+    for (InlineElementRepresentation representation : this.representations) {
+      Object value = new TemplateOptionsInlineElement(valueField, representation).value();
+      if (value != null) {
+        mutableValues.add(value);
+      }
+    }
+    this.values = Collections.unmodifiableSet(mutableValues);
   }
 
   public ValidatedFormProperty<String> validate(FormProperty<String> property) {
@@ -30,20 +48,15 @@ class TemplateOptionsInlineElements {
           .reason(firstValidationError);
     }
 
-    List<TemplateOptionsInlineElement> inlineElements =
-        representations.stream()
-            .map(representation -> new TemplateOptionsInlineElement(valueField, representation))
-            .toList();
-
     for (String value : property.values()) {
 
-      if (inlineElements.stream().anyMatch(inlineElement -> inlineElement.matches(value))) {
+      if (values.contains(value)) {
         continue;
       }
 
       String firstValidationError =
           "Value '%s' didn't match any inline option of property '%s' among %s"
-              .formatted(value, property.name(), representations);
+              .formatted(value, property.name(), describeRepresentations());
 
       return ValidatedFormProperty.invalidBuilder(property)
           .serverSideVerifiable(true)
@@ -52,4 +65,18 @@ class TemplateOptionsInlineElements {
 
     return ValidatedFormProperty.markAsValid(property);
   }
+
+  private String describeRepresentations() {
+    if (representations.size() <= MAX_DESCRIBED_ELEMENTS) {
+      return representations.toString();
+    }
+    return representations.stream()
+        .limit(MAX_DESCRIBED_ELEMENTS)
+        .map(String::valueOf)
+        .collect(
+            Collectors.joining(
+                ", ",
+                "[",
+                ", ... (%s more)]".formatted(representations.size() - MAX_DESCRIBED_ELEMENTS)));
+  }
 }
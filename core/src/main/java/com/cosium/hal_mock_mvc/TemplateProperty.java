@@ -3,78 +3,104 @@ package com.cosium.hal_mock_mvc;
 import static java.util.Objects.requireNonNull;
 
 import com.cosium.hal_mock_mvc.template.options.OptionsRepresentation;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.jspecify.annotations.Nullable;
 import tools.jackson.databind.ObjectMapper;
 
 /**
+ * An immutable, precompiled view of a {@link TemplatePropertyRepresentation} that can be shared by
+ * any number of {@link Form}.
+ *
  * @author Réda Housni Alaoui
  */
 class TemplateProperty {
 
-  private static final Set<String> STRING_HAL_FORMS_TYPES =
-      Set.of(
-          "hidden",
-          "text",
-          "textarea",
-          "search",
-          "tel",
-          "url",
-          "email",
-          "password",
-          "date",
-          "time",
-          "datetime-local",
-          "range",
-          "color");
-
-  private static final Set<String> NUMBER_HAL_FORMS_TYPES = Set.of("month", "week", "number");
-
-  private static final Set<String> BOOLEAN_HAL_FORMS_TYPES = Set.of("checkbox");
-
-  private final RequestExecutor requestExecutor;
-  private final ObjectMapper objectMapper;
-  private final TemplatePropertyRepresentation representation;
-
-  TemplateProperty(
-      RequestExecutor requestExecutor,
-      ObjectMapper objectMapper,
-      TemplatePropertyRepresentation representation) {
-    this.requestExecutor = requireNonNull(requestExecutor);
-    this.objectMapper = requireNonNull(objectMapper);
-    this.representation = requireNonNull(representation);
-  }
+  private final String name;
+  private final boolean required;
+  private final boolean readOnly;
+  private final @Nullable TemplateOptions options;
+  private final String type;
+  private final ValueType valueType;
+  private final @Nullable String regex;
+  private final @Nullable Pattern pattern;
+  private final @Nullable PatternSyntaxException patternSyntaxException;
+  private final @Nullable Double max;
+  private final @Nullable Double min;
+  private final @Nullable Long maxLength;
+  private final @Nullable Long minLength;
+  private final @Nullable Double step;
+  private final @Nullable Object defaultValue;
 
-  public String name() {
-    return representation.name();
+  TemplateProperty(TemplatePropertyRepresentation representation) {
+    this.name = representation.name();
+    this.required = representation.required();
+    this.readOnly = representation.readOnly();
+    OptionsRepresentation optionsRepresentation = representation.options().orElse(null);
+    this.options =
+        optionsRepresentation == null ? null : new TemplateOptions(optionsRepresentation);
+    this.type = representation.type();
+    this.valueType = ValueType.ofHalFormsType(type);
+    this.regex = representation.regex().orElse(null);
+    Pattern compiledPattern = null;
+    PatternSyntaxException syntaxException = null;
+    if (regex != null) {
+      try {
+        compiledPattern = Pattern.compile(regex);
+      } catch (PatternSyntaxException e) {
+        syntaxException = e;
+      }
+    }
+    this.pattern = compiledPattern;
+    this.patternSyntaxException = syntaxException;
+    this.max = representation.max().orElse(null);
+    this.min = representation.min().orElse(null);
+    this.maxLength = representation.maxLength().orElse(null);
+    this.minLength = representation.minLength().orElse(null);
+    this.step = representation.step().orElse(null);
+    this.defaultValue = computeDefaultValue(representation, optionsRepresentation);
   }
 
-  public Optional<Object> defaultValue() {
-    OptionsRepresentation options = representation.options().orElse(null);
+  private static @Nullable Object computeDefaultValue(
+      TemplatePropertyRepresentation representation, @Nullable OptionsRepresentation options) {
     if (options == null) {
-      return representation.rawValue();
+      return representation.rawValue().orElse(null);
     }
 
     Long maxItems = options.maxItems().orElse(null);
     if (maxItems != null && maxItems <= 1) {
-      return options.selectedValues().stream().findFirst().map(Object.class::cast);
+      return options.selectedValues().stream().findFirst().orElse(null);
     }
-    return Optional.of(options.selectedValues())
-        .filter(Predicate.not(List::isEmpty))
-        .map(Object.class::cast);
+    return Optional.of(options.selectedValues()).filter(Predicate.not(List::isEmpty)).orElse(null);
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public Optional<Object> defaultValue() {
+    return Optional.ofNullable(defaultValue);
   }
 
   public boolean isRequired() {
-    return representation.required();
+    return required;
+  }
+
+  public boolean isReadOnly() {
+    return readOnly;
   }
 
-  public <T> ValidatedFormProperty<T> validate(FormProperty<T> property) throws Exception {
+  public <T> ValidatedFormProperty<T> validate(
+      FormProperty<T> property, RequestExecutor requestExecutor, ObjectMapper objectMapper)
+      throws Exception {
 
-    Object firstValue = property.values().stream().findFirst().orElse(null);
-    if (representation.required() && firstValue == null) {
+    Object firstValue = property.firstValue();
+    if (required && firstValue == null) {
       return ValidatedFormProperty.invalidBuilder(property)
           .serverSideVerifiable(true)
           .reason(
@@ -82,9 +108,8 @@ class TemplateProperty {
                   .formatted(property.name()));
     }
 
-    OptionsRepresentation options = representation.options().orElse(null);
     if (options != null) {
-      return new TemplateOptions(requestExecutor, objectMapper, options).validate(property);
+      return options.validate(property, requestExecutor, objectMapper);
     }
 
     if (property.array()) {
@@ -95,22 +120,21 @@ class TemplateProperty {
                   .formatted(property.name()));
     }
 
-    String type = representation.type();
-    if (STRING_HAL_FORMS_TYPES.contains(type) && !String.class.equals(property.valueType())) {
+    if (valueType == ValueType.STRING && !property.isStringValueType()) {
       return ValidatedFormProperty.invalidBuilder(property)
           .serverSideVerifiable(true)
           .reason(
               "Value must be of type String because property '%s' has type '%s'"
                   .formatted(property.name(), type));
     }
-    if (NUMBER_HAL_FORMS_TYPES.contains(type) && !property.isNumberValueType()) {
+    if (valueType == ValueType.NUMBER && !property.isNumberValueType()) {
       return ValidatedFormProperty.invalidBuilder(property)
           .serverSideVerifiable(true)
           .reason(
               "Value must be of type Number because property '%s' has type '%s'"
                   .formatted(property.name(), type));
     }
-    if (BOOLEAN_HAL_FORMS_TYPES.contains(type) && !property.isBooleanValueType()) {
+    if (valueType == ValueType.BOOLEAN && !property.isBooleanValueType()) {
       return ValidatedFormProperty.invalidBuilder(property)
           .serverSideVerifiable(true)
           .reason(
@@ -118,17 +142,19 @@ class TemplateProperty {
                   .formatted(property.name(), type));
     }
 
-    String regex = representation.regex().orElse(null);
     if (regex != null) {
-      if (!String.class.equals(property.valueType())) {
+      if (!property.isStringValueType()) {
         return ValidatedFormProperty.invalidBuilder(property)
             .serverSideVerifiable(true)
             .reason(
                 "Property '%s' must have a value of type String because it is associated to a regex"
                     .formatted(property.name()));
       }
+      if (patternSyntaxException != null) {
+        throw patternSyntaxException;
+      }
       String stringValue = (String) firstValue;
-      if (firstValue != null && !Pattern.compile(regex).matcher(stringValue).matches()) {
+      if (firstValue != null && !requireNonNull(pattern).matcher(stringValue).matches()) {
         return ValidatedFormProperty.invalidBuilder(property)
             .serverSideVerifiable(true)
             .reason(
@@ -137,7 +163,6 @@ class TemplateProperty {
       }
     }
 
-    Double max = representation.max().orElse(null);
     if (max != null) {
       if (!property.isNumberValueType()) {
         return ValidatedFormProperty.invalidBuilder(property)
@@ -146,7 +171,7 @@ class TemplateProperty {
                 "Value of property '%s' must be a number because the property defines a max value."
                     .formatted(property.name()));
       }
-      Double doubleValue = property.toDoubleValues().stream().findFirst().orElse(null);
+      Double doubleValue = property.firstDoubleValue();
       if (doubleValue != null && doubleValue > max) {
         return ValidatedFormProperty.invalidBuilder(property)
             .serverSideVerifiable(true)
@@ -156,7 +181,6 @@ class TemplateProperty {
       }
     }
 
-    Double min = representation.min().orElse(null);
     if (min != null) {
       if (!property.isNumberValueType()) {
         return ValidatedFormProperty.invalidBuilder(property)
@@ -165,7 +189,7 @@ class TemplateProperty {
                 "Value of property '%s' must be a number because the property defines a min value."
                     .formatted(property.name()));
       }
-      Double doubleValue = property.toDoubleValues().stream().findFirst().orElse(null);
+      Double doubleValue = property.firstDoubleValue();
       if (doubleValue != null && doubleValue < min) {
         return ValidatedFormProperty.invalidBuilder(property)
             .serverSideVerifiable(true)
@@ -175,9 +199,8 @@ class TemplateProperty {
       }
     }
 
-    Long maxLength = representation.maxLength().orElse(null);
     if (maxLength != null) {
-      if (!String.class.equals(property.valueType())) {
+      if (!property.isStringValueType()) {
         return ValidatedFormProperty.invalidBuilder(property)
             .serverSideVerifiable(true)
             .reason(
@@ -194,9 +217,8 @@ class TemplateProperty {
       }
     }
 
-    Long minLength = representation.minLength().orElse(null);
     if (minLength != null) {
-      if (!String.class.equals(property.valueType())) {
+      if (!property.isStringValueType()) {
         return ValidatedFormProperty.invalidBuilder(property)
             .serverSideVerifiable(true)
             .reason(
@@ -213,7 +235,6 @@ class TemplateProperty {
       }
     }
 
-    Double step = representation.step().orElse(null);
     if (step != null) {
       if (!property.isNumberValueType()) {
         return ValidatedFormProperty.invalidBuilder(property)
@@ -222,7 +243,7 @@ class TemplateProperty {
                 "Value of property '%s' must be a number because the property defines a step value."
                     .formatted(property.name()));
       }
-      Double doubleValue = property.toDoubleValues().stream().findFirst().orElse(null);
+      Double doubleValue = property.firstDoubleValue();
       if (doubleValue != null && Math.round(doubleValue / step) != doubleValue / step) {
         return ValidatedFormProperty.invalidBuilder(property)
             .serverSideVerifiable(true)
@@ -234,4 +255,38 @@ class TemplateProperty {
 
     return ValidatedFormProperty.markAsValid(property);
   }
+
+  private enum ValueType {
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    UNCONSTRAINED;
+
+    private static final Map<String, ValueType> BY_HAL_FORMS_TYPE = new HashMap<>();
+
+    static {
+      List.of(
+              "hidden",
+              "text",
+              "textarea",
+              "search",
+              "tel",
+              "url",
+              "email",
+              "password",
+              "date",
+              "time",
+              "datetime-local",
+              "range",
+              "color")
+          .forEach(halFormsType -> BY_HAL_FORMS_TYPE.put(halFormsType, STRING));
+      List.of("month", "week", "number")
+          .forEach(halFormsType -> BY_HAL_FORMS_TYPE.put(halFormsType, NUMBER));
+      BY_HAL_FORMS_TYPE.put("checkbox", BOOLEAN);
+    }
+
+    static ValueType ofHalFormsType(String halFormsType) {
+      return BY_HAL_FORMS_TYPE.getOrDefault(halFormsType, UNCONSTRAINED);
+    }
+  }
 }
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
 import org.springframework.http.MediaType;
 
 /**
@@ -24,6 +25,8 @@ public class TemplateRepresentation {
   private final Map<String, TemplatePropertyRepresentation> propertyByName;
   private final String target;
 
+  private volatile @Nullable TemplateValidationPlan validationPlan;
+
   @JsonCreator
   TemplateRepresentation(
       @JsonProperty("title") String title,
@@ -68,4 +71,16 @@ public class TemplateRepresentation {
   public Optional<String> target() {
     return Optional.ofNullable(target);
   }
+
+  /**
+   * @return The validation plan compiled on first access then shared by every caller
+   */
+  TemplateValidationPlan validationPlan() {
+    TemplateValidationPlan plan = validationPlan;
+    if (plan == null) {
+      plan = TemplateValidationPlan.compile(this);
+      validationPlan = plan;
+    }
+    return plan;
+  }
 }
@@ -0,0 +1,71 @@
+package com.cosium.hal_mock_mvc;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The immutable result of compiling a {@link TemplateRepresentation} for validation. It is computed
+ * once per representation and shared by every {@link Form} created from it, including across
+ * threads.
+ *
+ * @author Réda Housni Alaoui
+ * @see TemplateRepresentation#validationPlan()
+ */
+class TemplateValidationPlan {
+
+  private final Map<String, TemplateProperty> propertyByName;
+  private final List<TemplateProperty> requiredProperties;
+  private final Map<String, Object> defaultValueByName;
+
+  private TemplateValidationPlan(TemplateRepresentation representation) {
+    Map<String, TemplateProperty> mutablePropertyByName = new LinkedHashMap<>();
+    Map<String, Object> mutableDefaultValueByName = new LinkedHashMap<>();
+    representation
+        .propertyByName()
+        .forEach(
+            (name, propertyRepresentation) -> {
+              TemplateProperty property = new TemplateProperty(propertyRepresentation);
+              mutablePropertyByName.put(name, property);
+              property
+                  .defaultValue()
+                  .ifPresent(defaultValue -> mutableDefaultValueByName.put(name, defaultValue));
+            });
+    this.propertyByName = Collections.unmodifiableMap(mutablePropertyByName);
+    this.requiredProperties =
+        mutablePropertyByName.values().stream().filter(TemplateProperty::isRequired).toList();
+    this.defaultValueByName = Collections.unmodifiableMap(mutableDefaultValueByName);
+  }
+
+  static TemplateValidationPlan compile(TemplateRepresentation representation) {
+    return new TemplateValidationPlan(representation);
+  }
+
+  /**
+   * @return The property names, in declaration order
+   */
+  public Set<String> propertyNames() {
+    return propertyByName.keySet();
+  }
+
+  public Optional<TemplateProperty> property(String name) {
+    return Optional.ofNullable(propertyByName.get(name));
+  }
+
+  /**
+   * @return The required properties, in declaration order
+   */
+  public List<TemplateProperty> requiredProperties() {
+    return requiredProperties;
+  }
+
+  /**
+   * @return The non-null default values by property name, in declaration order
+   */
+  public Map<String, Object> defaultValueByName() {
+    return defaultValueByName;
+  }
+}
@@ -5,19 +5,23 @@ import static java.util.Objects.requireNonNull;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.test.web.servlet.ResultActions;
-import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.json.JsonMapper;
 
 /**
  * @author Réda Housni Alaoui
@@ -28,25 +32,38 @@ public class Templates {
   private final ObjectMapper objectMapper;
   private final HalFormsBody body;
 
-  Templates(RequestExecutor requestExecutor, ResultActions resultActions) throws Exception {
+  Templates(RequestExecutor requestExecutor, ObjectMapper objectMapper, ResultActions resultActions)
+      throws Exception {
     this.requestExecutor = requireNonNull(requestExecutor);
+    this.objectMapper = requireNonNull(objectMapper);
 
+    JfrEvents.TemplatesParsingEvent event = new JfrEvents.TemplatesParsingEvent();
+    event.begin();
     resultActions
         .andExpect(anyOf(status().is2xxSuccessful(), status().is3xxRedirection()))
         .andExpect(content().contentType(MediaTypes.HAL_FORMS_JSON));
 
-    objectMapper =
-        JsonMapper.builder()
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-            .addModule(new JacksonModule())
-            .build();
     body =
-        objectMapper.readValue(
-            resultActions.andReturn().getResponse().getContentAsString(), HalFormsBody.class);
+        new HalFormsBody(
+            objectMapper,
+            requestExecutor.metrics(),
+            resultActions.andReturn().getResponse().getContentAsByteArray());
+    if (event.shouldCommit()) {
+      event.commit(resultActions, body.templateKeys().size());
+    }
+  }
+
+  /**
+   * @param document A HAL-FORMS representation already at hand, e.g. an embedded resource
+   */
+  Templates(RequestExecutor requestExecutor, ObjectMapper objectMapper, byte[] document) {
+    this.requestExecutor = requireNonNull(requestExecutor);
+    this.objectMapper = requireNonNull(objectMapper);
+    body = new HalFormsBody(objectMapper, requestExecutor.metrics(), requireNonNull(document));
   }
 
   public Optional<Template> byOptionalKey(String key) {
-    return Optional.ofNullable(body.templateByKey.get(key))
+    return Optional.ofNullable(body.templateByKey(key))
         .map(
             representation ->
                 new Template(requestExecutor, objectMapper, body.baseUri, key, representation));
@@ -58,23 +75,54 @@ public class Templates {
   }
 
   public Collection<Template> list() {
-    return body.templateByKey.entrySet().stream()
+    return body.templateKeys().stream()
         .map(
-            entry ->
+            key ->
                 new Template(
-                    requestExecutor, objectMapper, body.baseUri, entry.getKey(), entry.getValue()))
+                    requestExecutor, objectMapper, body.baseUri, key, body.templateByKey(key)))
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Indexes the location of each template in the raw HAL-FORMS document. A template is only
+   * deserialized the first time it is requested.
+   */
   private static class HalFormsBody {
 
+    private static final String LINKS = "_links";
+    private static final String TEMPLATES = "_templates";
+
+    private final ObjectMapper objectMapper;
+    private final Metrics metrics;
+    private final byte[] document;
     private final String baseUri;
-    private final Map<String, TemplateRepresentation> templateByKey;
+    private final Map<String, Slice> templateSliceByKey;
+    private final Map<String, TemplateRepresentation> templateByKey = new ConcurrentHashMap<>();
+
+    HalFormsBody(ObjectMapper objectMapper, Metrics metrics, byte[] document) {
+      this.objectMapper = objectMapper;
+      this.metrics = metrics;
+      this.document = document;
+      long start = metrics.start();
+
+      Map<String, Link> linkByName = null;
+      Map<String, Slice> mutableTemplateSliceByKey = new LinkedHashMap<>();
+      try (JsonParser parser = objectMapper.createParser(document)) {
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+          String propertyName;
+          while ((propertyName = parser.nextName()) != null) {
+            JsonToken valueToken = parser.nextToken();
+            if (LINKS.equals(propertyName) && valueToken == JsonToken.START_OBJECT) {
+              linkByName = parser.readValueAs(new LinkByName());
+            } else if (TEMPLATES.equals(propertyName) && valueToken == JsonToken.START_OBJECT) {
+              indexTemplates(parser, mutableTemplateSliceByKey);
+            } else {
+              parser.skipChildren();
+            }
+          }
+        }
+      }
 
-    @JsonCreator
-    public HalFormsBody(
-        @JsonProperty("_links") Map<String, Link> linkByName,
-        @JsonProperty("_templates") Map<String, TemplateRepresentation> templateByKey) {
       baseUri =
           Optional.ofNullable(linkByName)
               .map(linkByNameMap -> linkByNameMap.get("self"))
@@ -83,12 +131,66 @@ public class Templates {
                   () ->
                       new NoSuchElementException(
                           "_link.self is missing from the HAL forms representation"));
+      templateSliceByKey = Collections.unmodifiableMap(mutableTemplateSliceByKey);
+      if (metrics.enabled()) {
+        metrics.record(
+            MetricsListener.Phase.TEMPLATES_PARSING,
+            null,
+            URI.create(baseUri),
+            null,
+            metrics.elapsedSince(start),
+            document.length);
+      }
+    }
+
+    private static void indexTemplates(JsonParser parser, Map<String, Slice> templateSliceByKey) {
+      String key;
+      while ((key = parser.nextName()) != null) {
+        JsonToken valueToken = parser.nextToken();
+        if (valueToken != JsonToken.START_OBJECT) {
+          parser.skipChildren();
+          templateSliceByKey.remove(key);
+          continue;
+        }
+        int offset = (int) parser.currentTokenLocation().getByteOffset();
+        parser.skipChildren();
+        int end = (int) parser.currentLocation().getByteOffset();
+        templateSliceByKey.put(key, new Slice(offset, end - offset));
+      }
+    }
+
+    Collection<String> templateKeys() {
+      return templateSliceByKey.keySet();
+    }
+
+    @Nullable TemplateRepresentation templateByKey(String key) {
+      Slice slice = templateSliceByKey.get(key);
+      if (slice == null) {
+        return null;
+      }
+      return templateByKey.computeIfAbsent(key, k -> parseTemplate(k, slice));
+    }
 
-      this.templateByKey =
-          Optional.ofNullable(templateByKey)
-              .map(Collections::unmodifiableMap)
-              .orElseGet(Collections::emptyMap);
+    private TemplateRepresentation parseTemplate(String key, Slice slice) {
+      long start = metrics.start();
+      TemplateRepresentation template =
+          objectMapper.readValue(
+              document, slice.offset, slice.length, TemplateRepresentation.class);
+      if (metrics.enabled()) {
+        metrics.record(
+            MetricsListener.Phase.TEMPLATES_PARSING,
+            null,
+            URI.create(baseUri),
+            key,
+            metrics.elapsedSince(start),
+            slice.length);
+      }
+      return template;
     }
+
+    private record Slice(int offset, int length) {}
+
+    private static class LinkByName extends TypeReference<Map<String, Link>> {}
   }
 
   /**
@@ -0,0 +1,78 @@
+package com.cosium.hal_mock_mvc;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * A cache of the URIs resolved by the hops of {@link HalMockMvc.TraversalBuilder}. Traversals
+ * sharing a common sequence of hops will only fetch the relations of that sequence once.
+ *
+ * <p>An entry is keyed by the URI the hop starts from, the hop relation name, the hop parameters
+ * and the headers of the {@link HalMockMvc}. Any non-GET request executed by a {@link HalMockMvc}
+ * using the cache invalidates all entries.
+ *
+ * @author Réda Housni Alaoui
+ * @see HalMockMvc.Builder#traversalCache(TraversalCache)
+ */
+public class TraversalCache {
+
+  private final Map<Key, URI> targetUriByKey = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * @return The number of hops resolved from the cache
+   */
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return The number of hops that had to be fetched
+   */
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /** Removes all entries from the cache */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    targetUriByKey.clear();
+  }
+
+  URI resolve(URI startUri, Hop hop, HttpHeaders headers, HopResolver resolver) throws Exception {
+    Key key =
+        new Key(
+            startUri,
+            hop.relationName(),
+            Collections.unmodifiableMap(new HashMap<>(hop.parameters())),
+            headers);
+    URI cachedTargetUri = targetUriByKey.get(key);
+    if (cachedTargetUri != null) {
+      hitCount.incrementAndGet();
+      return cachedTargetUri;
+    }
+    missCount.incrementAndGet();
+
+    long resolutionGeneration = generation.get();
+    URI targetUri = resolver.resolve(startUri, hop);
+    if (resolutionGeneration == generation.get()) {
+      targetUriByKey.put(key, targetUri);
+    }
+    return targetUri;
+  }
+
+  @FunctionalInterface
+  interface HopResolver {
+    URI resolve(URI startUri, Hop hop) throws Exception;
+  }
+
+  private record Key(
+      URI startUri, String relationName, Map<String, Object> parameters, HttpHeaders headers) {}
+}
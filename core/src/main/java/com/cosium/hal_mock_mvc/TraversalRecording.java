@@ -0,0 +1,311 @@
+package com.cosium.hal_mock_mvc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.AbstractMockHttpServletRequestBuilder;
+
+/**
+ * The responses to the GET relation fetches and options fetches of traversals, recorded to answer
+ * the same requests later without dispatching them to {@link
+ * org.springframework.test.web.servlet.MockMvc}. Template submissions and requests on the final
+ * endpoint are never recorded nor replayed.
+ *
+ * <p>A response is keyed by the canonical form of the request URI and by the headers of the request
+ * built by the {@link HalMockMvc}, once processed by the request post-processors. Header names are
+ * compared case-insensitively. A traversal replayed with other headers, for example another {@code
+ * Authorization} header, is not answered with the recorded responses. To compute the key, the
+ * request post-processors run once more per recorded or verified request.
+ *
+ * <pre>{@code
+ * // Once, against the real controllers
+ * TraversalRecording recording = new TraversalRecording();
+ * HalMockMvc.builder(mockMvc).addExecutionInterceptor(recording.recorder()).build()...;
+ * recording.save(file);
+ *
+ * // Then
+ * TraversalRecording recording = TraversalRecording.load(file);
+ * HalMockMvc.builder(mockMvc).addExecutionInterceptor(recording.replayer()).build()...;
+ * assertThat(recording.mismatches()).isEmpty();
+ * }</pre>
+ *
+ * @author Réda Housni Alaoui
+ */
+public class TraversalRecording {
+
+  private static final int FORMAT_MAGIC = 0x48414C52;
+  private static final int FORMAT_VERSION = 2;
+  private static final Set<RequestKind> RECORDED_KINDS =
+      Set.of(RequestKind.RELATION_FETCH, RequestKind.OPTIONS_FETCH);
+
+  private final Map<Key, RecordedResponse> responseByKey = new ConcurrentHashMap<>();
+  private final List<Mismatch> mismatches = new CopyOnWriteArrayList<>();
+
+  /**
+   * @return A recording holding the responses saved to the provided file
+   * @see #save(Path)
+   */
+  public static TraversalRecording load(Path file) throws IOException {
+    TraversalRecording recording = new TraversalRecording();
+    try (DataInputStream input =
+        new DataInputStream(
+            new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))))) {
+      if (input.readInt() != FORMAT_MAGIC) {
+        throw new IOException(file + " is not a traversal recording");
+      }
+      int version = input.readInt();
+      if (version != FORMAT_VERSION) {
+        throw new IOException(
+            "Unsupported traversal recording version %s in %s".formatted(version, file));
+      }
+      int responseCount = input.readInt();
+      for (int i = 0; i < responseCount; i++) {
+        URI uri = URI.create(input.readUTF());
+        Map<String, List<String>> requestHeaders = readHeaders(input);
+        int status = input.readInt();
+        Map<String, List<String>> headers = readHeaders(input);
+        byte[] body = new byte[input.readInt()];
+        input.readFully(body);
+        recording.responseByKey.put(
+            new Key(uri, requestHeaders), new RecordedResponse(status, headers, body));
+      }
+    }
+    return recording;
+  }
+
+  private static Map<String, List<String>> readHeaders(DataInputStream input) throws IOException {
+    int headerCount = input.readInt();
+    Map<String, List<String>> headers = new LinkedHashMap<>();
+    for (int i = 0; i < headerCount; i++) {
+      String name = input.readUTF();
+      int valueCount = input.readInt();
+      List<String> values = new ArrayList<>(valueCount);
+      for (int j = 0; j < valueCount; j++) {
+        values.add(input.readUTF());
+      }
+      headers.put(name, values);
+    }
+    return headers;
+  }
+
+  private static void writeHeaders(DataOutputStream output, Map<String, List<String>> headers)
+      throws IOException {
+    output.writeInt(headers.size());
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      output.writeUTF(header.getKey());
+      output.writeInt(header.getValue().size());
+      for (String value : header.getValue()) {
+        output.writeUTF(value);
+      }
+    }
+  }
+
+  /** Writes the recorded responses to the provided file, in a gzipped binary format */
+  public void save(Path file) throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    try (DataOutputStream output =
+        new DataOutputStream(
+            new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file))))) {
+      output.writeInt(FORMAT_MAGIC);
+      output.writeInt(FORMAT_VERSION);
+      Map<Key, RecordedResponse> responses = Map.copyOf(responseByKey);
+      output.writeInt(responses.size());
+      for (Map.Entry<Key, RecordedResponse> entry : responses.entrySet()) {
+        Key key = entry.getKey();
+        RecordedResponse response = entry.getValue();
+        output.writeUTF(key.uri().toString());
+        writeHeaders(output, key.requestHeaders());
+        output.writeInt(response.status());
+        writeHeaders(output, response.headers());
+        output.writeInt(response.body().length);
+        output.write(response.body());
+      }
+    }
+  }
+
+  /**
+   * @return The number of recorded responses
+   */
+  public int size() {
+    return responseByKey.size();
+  }
+
+  /**
+   * @return The differences found by {@link #replayer()} and {@link #verifier()} between the
+   *     recording and the actual requests or responses
+   */
+  public List<Mismatch> mismatches() {
+    return List.copyOf(mismatches);
+  }
+
+  /**
+   * @return An interceptor dispatching every request and recording the responses to the GET
+   *     relation fetches and options fetches
+   */
+  public ExecutionInterceptor recorder() {
+    return (execution, chain) -> {
+      if (!isRecordable(execution)) {
+        return chain.proceed(execution);
+      }
+      Key key = Key.of(execution);
+      ResultActions resultActions = chain.proceed(execution);
+      responseByKey.put(key, RecordedResponse.of(resultActions.andReturn().getResponse()));
+      return resultActions;
+    };
+  }
+
+  /**
+   * @return An interceptor answering the GET relation fetches and options fetches from the
+   *     recording without dispatching them. A recordable request missing from the recording is
+   *     dispatched and reported as a {@link Mismatch}.
+   */
+  public ExecutionInterceptor replayer() {
+    return (execution, chain) -> {
+      if (!isRecordable(execution)) {
+        return chain.proceed(execution);
+      }
+      AbstractMockHttpServletRequestBuilder<?> requestBuilder = execution.requestBuilder();
+      MockHttpServletRequest request = Key.buildRequest(requestBuilder);
+      Key key = Key.of(execution.uri(), request);
+      RecordedResponse recordedResponse = responseByKey.get(key);
+      if (recordedResponse == null) {
+        mismatches.add(missingResponse(key));
+        return chain.proceed(execution);
+      }
+      return new ReplayedResultActions(request, recordedResponse.toMockResponse());
+    };
+  }
+
+  /**
+   * @return An interceptor dispatching every request and reporting as a {@link Mismatch} each GET
+   *     relation fetch or options fetch whose response differs from the recorded one
+   */
+  public ExecutionInterceptor verifier() {
+    return (execution, chain) -> {
+      if (!isRecordable(execution)) {
+        return chain.proceed(execution);
+      }
+      Key key = Key.of(execution);
+      ResultActions resultActions = chain.proceed(execution);
+      URI uri = key.uri();
+      RecordedResponse recordedResponse = responseByKey.get(key);
+      MockHttpServletResponse response = resultActions.andReturn().getResponse();
+      if (recordedResponse == null) {
+        mismatches.add(missingResponse(key));
+      } else if (recordedResponse.status() != response.getStatus()) {
+        mismatches.add(
+            new Mismatch(
+                uri,
+                "Status %s was recorded but %s was received"
+                    .formatted(recordedResponse.status(), response.getStatus())));
+      } else if (!Arrays.equals(recordedResponse.body(), response.getContentAsByteArray())) {
+        mismatches.add(new Mismatch(uri, "The body differs from the recorded one"));
+      }
+      return resultActions;
+    };
+  }
+
+  private Mismatch missingResponse(Key key) {
+    boolean recordedWithOtherHeaders =
+        responseByKey.keySet().stream().map(Key::uri).anyMatch(key.uri()::equals);
+    if (recordedWithOtherHeaders) {
+      return new Mismatch(
+          key.uri(),
+          "No response recorded for the request headers %s".formatted(key.requestHeaders()));
+    }
+    return new Mismatch(key.uri(), "No recorded response");
+  }
+
+  private static boolean isRecordable(ExecutionInterceptor.Execution execution) {
+    return HttpMethod.GET.equals(execution.httpMethod())
+        && RECORDED_KINDS.contains(execution.kind());
+  }
+
+  /**
+   * @param uri The canonical URI of the request
+   * @param description What differs
+   */
+  public record Mismatch(URI uri, String description) {
+    public Mismatch {
+      requireNonNull(uri);
+      requireNonNull(description);
+    }
+  }
+
+  /**
+   * @param uri The canonical URI of the request
+   * @param requestHeaders The request headers, by lowercase name
+   */
+  private record Key(URI uri, Map<String, List<String>> requestHeaders) {
+
+    static Key of(ExecutionInterceptor.Execution execution) {
+      return of(execution.uri(), buildRequest(execution.requestBuilder()));
+    }
+
+    /**
+     * @return The request the builder describes, processed by its request post-processors
+     */
+    static MockHttpServletRequest buildRequest(
+        AbstractMockHttpServletRequestBuilder<?> requestBuilder) {
+      return requestBuilder.postProcessRequest(
+          requestBuilder.buildRequest(new MockServletContext()));
+    }
+
+    static Key of(URI uri, MockHttpServletRequest request) {
+      Map<String, List<String>> requestHeaders = new TreeMap<>();
+      for (String name : Collections.list(request.getHeaderNames())) {
+        requestHeaders
+            .computeIfAbsent(name.toLowerCase(Locale.ROOT), lowerCaseName -> new ArrayList<>())
+            .addAll(Collections.list(request.getHeaders(name)));
+      }
+      return new Key(CanonicalUris.canonicalize(uri), requestHeaders);
+    }
+  }
+
+  private record RecordedResponse(int status, Map<String, List<String>> headers, byte[] body) {
+
+    static RecordedResponse of(MockHttpServletResponse response) {
+      Map<String, List<String>> headers = new LinkedHashMap<>();
+      for (String name : response.getHeaderNames()) {
+        headers.put(name, List.copyOf(response.getHeaders(name)));
+      }
+      return new RecordedResponse(response.getStatus(), headers, response.getContentAsByteArray());
+    }
+
+    MockHttpServletResponse toMockResponse() throws IOException {
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      response.setStatus(status);
+      headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+      response.getOutputStream().write(body);
+      return response;
+    }
+  }
+}
@@ -2,7 +2,6 @@ package com.cosium.hal_mock_mvc;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Map;
 import java.util.Optional;
 import org.jspecify.annotations.Nullable;
 
@@ -24,11 +23,6 @@ record ValidatedFormProperty<T>(
                 formProperty, new ValidationError(errorMessage, deferrableToServerSideValidation));
   }
 
-  public ValidatedFormProperty<T> populateRequestPayload(Map<String, Object> requestPayload) {
-    property.populateRequestPayload(requestPayload);
-    return this;
-  }
-
   public Optional<String> serverSideVerifiableErrorMessage() {
     return Optional.ofNullable(firstValidationError)
         .filter(ValidationError::serverSideVerifiable)
@@ -0,0 +1,131 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class AllocationTest {
+
+  private static final String BASE_URI = "/AllocationTest";
+  private static final int HOP_COUNT = 10;
+  private static final int WARMUP_ITERATIONS = 200;
+  private static final int MEASURED_ITERATIONS = 50;
+  private static final int MEASURED_ROUNDS = 5;
+
+  @Inject private MockMvc mockMvc;
+
+  private com.sun.management.ThreadMXBean threadMXBean;
+
+  @BeforeEach
+  void beforeEach() {
+    assumeTrue(
+        ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported()
+            && bean.isThreadAllocatedMemoryEnabled(),
+        "Thread allocated memory measurement is not supported");
+    threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+  }
+
+  @Test
+  @DisplayName("A hop allocates little more than the request it dispatches")
+  void test1() throws Exception {
+    assertHopOverhead(HalMockMvc.builder(mockMvc).baseUri(BASE_URI + "/0").build());
+  }
+
+  @Test
+  @DisplayName(
+      "A hop with relations request post-processors allocates little more than its request")
+  void test2() throws Exception {
+    assertHopOverhead(
+        HalMockMvc.builder(mockMvc)
+            .baseUri(BASE_URI + "/0")
+            .addRelationsRequestPostProcessor((request, desiredRelations) -> request)
+            .build());
+  }
+
+  private void assertHopOverhead(HalMockMvc halMockMvc) throws Exception {
+    String[] relations = new String[HOP_COUNT];
+    for (int i = 0; i < HOP_COUNT; i++) {
+      relations[i] = "next";
+    }
+    Iteration rawRequests =
+        () -> {
+          for (int i = 0; i <= HOP_COUNT; i++) {
+            mockMvc.perform(get(BASE_URI + "/" + i)).andExpect(status().isOk());
+          }
+        };
+    Iteration traversal = () -> halMockMvc.follow(relations).get().andExpect(status().isOk());
+
+    warmUp(rawRequests);
+    warmUp(traversal);
+    // The lowest of several interleaved rounds filters out one-off allocations, e.g. lazy caches
+    long bytesPerRequest = Long.MAX_VALUE;
+    long bytesPerHop = Long.MAX_VALUE;
+    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+      bytesPerRequest = Math.min(bytesPerRequest, measureBytesPerIteration(rawRequests));
+      bytesPerHop = Math.min(bytesPerHop, measureBytesPerIteration(traversal));
+    }
+    bytesPerRequest /= HOP_COUNT + 1;
+    bytesPerHop /= HOP_COUNT + 1;
+
+    assertThat(bytesPerHop - bytesPerRequest)
+        .as(
+            "Allocated bytes per hop (%d) minus allocated bytes per raw request (%d)",
+            bytesPerHop, bytesPerRequest)
+        .isLessThan(bytesPerRequest / 2);
+  }
+
+  private void warmUp(Iteration iteration) throws Exception {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      iteration.run();
+    }
+  }
+
+  private long measureBytesPerIteration(Iteration iteration) throws Exception {
+    long threadId = Thread.currentThread().getId();
+    long start = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      iteration.run();
+    }
+    return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / MEASURED_ITERATIONS;
+  }
+
+  @FunctionalInterface
+  private interface Iteration {
+    void run() throws Exception;
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    @GetMapping("/{index}")
+    public ResponseEntity<?> get(@PathVariable("index") int index) {
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_FORMS_JSON)
+          .body(
+              """
+              {"_links": {"self": {"href": "http://localhost%1$s/%2$d"}, "next": {"href": "http://localhost%1$s/%3$d"}}}
+              """
+                  .formatted(BASE_URI, index, index + 1));
+    }
+  }
+}
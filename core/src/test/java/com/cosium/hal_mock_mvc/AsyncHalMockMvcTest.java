@@ -0,0 +1,253 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class AsyncHalMockMvcTest {
+
+  @Inject private MyController myController;
+  @Inject private MockMvc mockMvc;
+
+  @BeforeEach
+  void beforeEach() {
+    myController.reset();
+  }
+
+  @Test
+  @DisplayName(
+      "Sibling traversals run concurrently with the configured headers and post-processors")
+  void test1() throws Exception {
+    AsyncHalMockMvc async =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).index()).toUri())
+            .header("X-Tenant", "tenant")
+            .addRequestPostProcessor(
+                request -> {
+                  request.addParameter("origin", "post-processor");
+                  return request;
+                })
+            .build()
+            .async();
+
+    List<CompletableFuture<ResultActions>> futures =
+        IntStream.range(0, 200)
+            .mapToObj(id -> async.follow(Hop.relation("item").withParameter("id", id)).get())
+            .toList();
+
+    for (int id = 0; id < futures.size(); id++) {
+      futures
+          .get(id)
+          .get()
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.id").value(id))
+          .andExpect(jsonPath("$.tenant").value("tenant"))
+          .andExpect(jsonPath("$.origin").value("post-processor"));
+    }
+  }
+
+  @Test
+  @DisplayName("Concurrency can be bounded")
+  void test2() throws Exception {
+    myController.itemDelayMillis = 20;
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      AsyncHalMockMvc async =
+          HalMockMvc.builder(mockMvc)
+              .baseUri(linkTo(methodOn(MyController.class).index()).toUri())
+              .build()
+              .async()
+              .executor(executor)
+              .maxConcurrency(2);
+
+      CompletableFuture.allOf(
+              IntStream.range(0, 12)
+                  .mapToObj(id -> async.follow(Hop.relation("item").withParameter("id", id)).get())
+                  .toArray(CompletableFuture[]::new))
+          .get();
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(myController.maxConcurrentItemCalls.get()).isBetween(1, 2);
+  }
+
+  @Test
+  @DisplayName("Traversals run on the configured executor")
+  void test3() throws Exception {
+    AtomicInteger executedTaskCount = new AtomicInteger();
+    Executor executor =
+        command -> {
+          executedTaskCount.incrementAndGet();
+          command.run();
+        };
+
+    Templates templates =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).index()).toUri())
+            .build()
+            .async()
+            .executor(executor)
+            .follow()
+            .templates()
+            .get();
+
+    assertThat(templates.list()).isEmpty();
+    assertThat(executedTaskCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Failures complete the future exceptionally")
+  void test4() {
+    CompletableFuture<ResultActions> future =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).index()).toUri())
+            .build()
+            .async()
+            .follow("unknown")
+            .get();
+
+    assertThatThrownBy(future::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Any scenario can be supplied")
+  void test5() throws Exception {
+    String id =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).index()).toUri())
+            .build()
+            .async()
+            .supply(
+                halMockMvc ->
+                    halMockMvc
+                        .follow(Hop.relation("item").withParameter("id", 7))
+                        .get()
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString())
+            .get();
+
+    assertThat(id).contains("\"id\":7");
+  }
+
+  @Test
+  @DisplayName("Traversals waiting for a concurrency permit do not hold an executor thread")
+  void test6() throws Exception {
+    myController.itemDelayMillis = 20;
+    ExecutorService delegate = Executors.newFixedThreadPool(8);
+    AtomicInteger runningTaskCount = new AtomicInteger();
+    AtomicInteger maxRunningTaskCount = new AtomicInteger();
+    Executor executor =
+        command ->
+            delegate.execute(
+                () -> {
+                  maxRunningTaskCount.accumulateAndGet(
+                      runningTaskCount.incrementAndGet(), Math::max);
+                  try {
+                    command.run();
+                  } finally {
+                    runningTaskCount.decrementAndGet();
+                  }
+                });
+    try {
+      AsyncHalMockMvc async =
+          HalMockMvc.builder(mockMvc)
+              .baseUri(linkTo(methodOn(MyController.class).index()).toUri())
+              .build()
+              .async()
+              .executor(executor)
+              .maxConcurrency(2);
+
+      CompletableFuture.allOf(
+              IntStream.range(0, 12)
+                  .mapToObj(id -> async.follow(Hop.relation("item").withParameter("id", id)).get())
+                  .toArray(CompletableFuture[]::new))
+          .get();
+    } finally {
+      delegate.shutdown();
+    }
+
+    // A permit is released before its task returns, so each permit may briefly cover two tasks
+    assertThat(maxRunningTaskCount.get()).isBetween(1, 4);
+  }
+
+  @Controller
+  @RequestMapping("/async-test")
+  public static class MyController {
+
+    private final AtomicInteger concurrentItemCalls = new AtomicInteger();
+    private final AtomicInteger maxConcurrentItemCalls = new AtomicInteger();
+    private volatile long itemDelayMillis;
+
+    void reset() {
+      concurrentItemCalls.set(0);
+      maxConcurrentItemCalls.set(0);
+      itemDelayMillis = 0;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> index() {
+      RepresentationModel<?> model = new RepresentationModel<>();
+      model.add(linkTo(methodOn(MyController.class).index()).withSelfRel());
+      model.add(linkTo(methodOn(MyController.class).item(null, null, null)).withRel("item"));
+      return ResponseEntity.ok(model);
+    }
+
+    @GetMapping("/items/{id}")
+    public ResponseEntity<?> item(
+        @PathVariable("id") Integer id,
+        @RequestHeader(value = "X-Tenant", required = false) String tenant,
+        @RequestParam(value = "origin", required = false) String origin) {
+      int concurrentCalls = concurrentItemCalls.incrementAndGet();
+      maxConcurrentItemCalls.accumulateAndGet(concurrentCalls, Math::max);
+      try {
+        Thread.sleep(itemDelayMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } finally {
+        concurrentItemCalls.decrementAndGet();
+      }
+      return ResponseEntity.ok(
+          "{\"id\":%s,\"tenant\":%s,\"origin\":%s}"
+              .formatted(id, quoteOrNull(tenant), quoteOrNull(origin)));
+    }
+
+    private static String quoteOrNull(String value) {
+      return value == null ? "null" : "\"" + value + "\"";
+    }
+  }
+}
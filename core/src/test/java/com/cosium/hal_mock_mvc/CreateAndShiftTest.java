@@ -0,0 +1,155 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class CreateAndShiftTest {
+
+  private static final String BASE_URI = "/CreateAndShiftTest";
+
+  @Inject private MockMvc mockMvc;
+  @Inject private MyController myController;
+
+  @BeforeEach
+  void beforeEach() {
+    myController.itemCallCount.set(0);
+  }
+
+  @Test
+  @DisplayName("The 201 response body is reused once by the shifted HalMockMvc")
+  void test1() throws Exception {
+    HalMockMvc created = create(HalMockMvc.builder(mockMvc), "item");
+
+    assertThat(created.follow().templates().byOptionalKey("update")).isPresent();
+    assertThat(myController.itemCallCount).hasValue(0);
+
+    created.follow().templates();
+    assertThat(myController.itemCallCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Requests on the created resource are dispatched")
+  void test2() throws Exception {
+    HalMockMvc created = create(HalMockMvc.builder(mockMvc), "item");
+
+    created.follow().get().andExpect(status().isOk());
+
+    assertThat(myController.itemCallCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("The 201 response body is fetched again when reuse is disabled")
+  void test3() throws Exception {
+    HalMockMvc created =
+        create(HalMockMvc.builder(mockMvc).reuseCreatedResponseBody(false), "item");
+
+    created.follow().templates();
+
+    assertThat(myController.itemCallCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("The 201 response body is not reused when its self link is not the location")
+  void test4() throws Exception {
+    HalMockMvc created = create(HalMockMvc.builder(mockMvc), "other");
+
+    created.follow().templates();
+
+    assertThat(myController.itemCallCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Templates of a reused 201 response body require a HAL-FORMS content type")
+  void test5() throws Exception {
+    HalMockMvc created = create(HalMockMvc.builder(mockMvc), "item", MediaTypes.HAL_JSON_VALUE);
+
+    assertThatThrownBy(() -> created.follow().templates()).isInstanceOf(AssertionError.class);
+    assertThat(myController.itemCallCount).hasValue(0);
+  }
+
+  private HalMockMvc create(HalMockMvc.Builder builder, String self) throws Exception {
+    return create(builder, self, MediaTypes.HAL_FORMS_JSON_VALUE);
+  }
+
+  private HalMockMvc create(HalMockMvc.Builder builder, String self, String mediaType)
+      throws Exception {
+    return builder
+        .baseUri(BASE_URI)
+        .build()
+        .follow()
+        .templates()
+        .byKey("create")
+        .createForm()
+        .withString("self", self)
+        .withString("mediaType", mediaType)
+        .createAndShift();
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    private final AtomicInteger itemCallCount = new AtomicInteger();
+
+    @GetMapping
+    public ResponseEntity<?> index() {
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_FORMS_JSON)
+          .body(
+              """
+              {
+                "_links": {"self": {"href": "http://localhost%s"}},
+                "_templates": {
+                  "create": {"method": "POST", "properties": [{"name": "self"}, {"name": "mediaType"}]}
+                }
+              }
+              """
+                  .formatted(BASE_URI));
+    }
+
+    @PostMapping
+    public ResponseEntity<?> create(@RequestBody Map<String, String> body) {
+      return ResponseEntity.created(URI.create("http://localhost" + BASE_URI + "/item"))
+          .contentType(MediaType.parseMediaType(body.get("mediaType")))
+          .body(item(body.get("self")));
+    }
+
+    @GetMapping("/item")
+    public ResponseEntity<?> item() {
+      itemCallCount.incrementAndGet();
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(item("item"));
+    }
+
+    private static String item(String self) {
+      return """
+          {
+            "_links": {"self": {"href": "http://localhost%s/%s"}},
+            "_templates": {"update": {"method": "PUT", "properties": [{"name": "name"}]}}
+          }
+          """
+          .formatted(BASE_URI, self);
+    }
+  }
+}
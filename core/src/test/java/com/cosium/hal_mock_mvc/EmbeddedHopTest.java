@@ -0,0 +1,175 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class EmbeddedHopTest {
+
+  private static final String BASE_URI = "/EmbeddedHopTest";
+
+  @Inject private MockMvc mockMvc;
+  @Inject private MyController myController;
+
+  private HalMockMvc halMockMvc;
+
+  @BeforeEach
+  void beforeEach() {
+    myController.reset();
+    halMockMvc = HalMockMvc.builder(mockMvc).baseUri(BASE_URI).build();
+  }
+
+  @Test
+  @DisplayName("Templates of an embedded resource are parsed without fetching it")
+  void test1() throws Exception {
+    halMockMvc
+        .follow(Hop.embedded("items").where("name", "b"))
+        .templates()
+        .byKey("rename")
+        .createForm()
+        .withString("name", "c")
+        .submit()
+        .andExpect(status().isNoContent());
+
+    assertThat(myController.collectionCallCount).hasValue(1);
+    assertThat(myController.itemCallCount).hasValue(0);
+    assertThat(myController.renamedItemIds).containsExactly("2");
+  }
+
+  @Test
+  @DisplayName("Requests on an embedded resource are dispatched to its self link")
+  void test2() throws Exception {
+    halMockMvc
+        .follow(Hop.embedded("items").where(item -> item.path("id").asInt() == 1))
+        .get()
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.live").value(true));
+
+    assertThat(myController.itemCallCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Relations of an embedded resource are found without fetching it")
+  void test3() throws Exception {
+    halMockMvc
+        .follow(Hop.embedded("items").where("name", "a"))
+        .follow("owner")
+        .get()
+        .andExpect(status().isOk());
+
+    assertThat(myController.collectionCallCount).hasValue(1);
+    assertThat(myController.itemCallCount).hasValue(0);
+    assertThat(myController.ownerCallCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("An embedded hop must match exactly one resource")
+  void test4() {
+    assertThatThrownBy(() -> halMockMvc.follow(Hop.embedded("items")).get())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Found <2> embedded resources for Hop[relationName='items'");
+    assertThatThrownBy(() -> halMockMvc.follow(Hop.embedded("items").where("name", "z")).get())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Could not find embedded resource for Hop[relationName='items'");
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    private final AtomicInteger collectionCallCount = new AtomicInteger();
+    private final AtomicInteger itemCallCount = new AtomicInteger();
+    private final AtomicInteger ownerCallCount = new AtomicInteger();
+    private final List<String> renamedItemIds = new CopyOnWriteArrayList<>();
+
+    private void reset() {
+      collectionCallCount.set(0);
+      itemCallCount.set(0);
+      ownerCallCount.set(0);
+      renamedItemIds.clear();
+    }
+
+    @GetMapping
+    public ResponseEntity<?> collection() {
+      collectionCallCount.incrementAndGet();
+      return hal(
+          """
+          {
+            "_links": {"self": {"href": "http://localhost%1$s"}},
+            "_embedded": {
+              "items": [%2$s, %3$s]
+            }
+          }
+          """
+              .formatted(BASE_URI, item(1, "a"), item(2, "b")));
+    }
+
+    @GetMapping("/items/{id}")
+    public ResponseEntity<?> item(@PathVariable String id) {
+      itemCallCount.incrementAndGet();
+      return hal(
+          """
+          {"live": true, "_links": {"self": {"href": "http://localhost%s/items/%s"}}}
+          """
+              .formatted(BASE_URI, id));
+    }
+
+    @PostMapping("/items/{id}")
+    public ResponseEntity<?> rename(@PathVariable String id) {
+      renamedItemIds.add(id);
+      return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/owner")
+    public ResponseEntity<?> owner() {
+      ownerCallCount.incrementAndGet();
+      return hal(
+          """
+          {"_links": {"self": {"href": "http://localhost%s/owner"}}}
+          """
+              .formatted(BASE_URI));
+    }
+
+    private static String item(int id, String name) {
+      return """
+          {
+            "id": %2$d,
+            "name": "%3$s",
+            "_links": {
+              "self": {"href": "http://localhost%1$s/items/%2$d"},
+              "owner": {"href": "http://localhost%1$s/owner"}
+            },
+            "_templates": {
+              "rename": {"method": "POST", "properties": [{"name": "name"}]}
+            }
+          }
+          """
+          .formatted(BASE_URI, id, name);
+    }
+
+    private static ResponseEntity<?> hal(String body) {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(body);
+    }
+  }
+}
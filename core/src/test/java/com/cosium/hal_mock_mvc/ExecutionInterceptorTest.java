@@ -0,0 +1,190 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class ExecutionInterceptorTest {
+
+  private static final String BASE_URI = "/ExecutionInterceptorTest";
+
+  @Inject private MyController myController;
+  @Inject private MockMvc mockMvc;
+
+  @BeforeEach
+  void beforeEach() {
+    myController.reset();
+  }
+
+  @Test
+  @DisplayName("Each dispatch is intercepted with its kind, method and URI")
+  void test1() throws Exception {
+    List<ExecutionInterceptor.Execution> executions = new ArrayList<>();
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(BASE_URI)
+            .addExecutionInterceptor(
+                (execution, chain) -> {
+                  executions.add(execution);
+                  return chain.proceed(execution);
+                })
+            .build();
+
+    halMockMvc.follow("next").get().andExpect(status().isOk());
+    halMockMvc
+        .follow()
+        .templates()
+        .byKey("default")
+        .createForm()
+        .withString("choice", "a")
+        .submit()
+        .andExpect(status().isNoContent());
+
+    assertThat(executions)
+        .extracting(
+            ExecutionInterceptor.Execution::kind,
+            ExecutionInterceptor.Execution::httpMethod,
+            execution -> execution.uri().getPath())
+        .containsExactly(
+            tuple(RequestKind.RELATION_FETCH, HttpMethod.GET, BASE_URI),
+            tuple(RequestKind.USER_REQUEST, HttpMethod.GET, BASE_URI + "/redirect"),
+            tuple(RequestKind.USER_REQUEST, HttpMethod.GET, BASE_URI + "/target"),
+            tuple(RequestKind.TEMPLATES_FETCH, HttpMethod.GET, BASE_URI),
+            tuple(RequestKind.OPTIONS_FETCH, HttpMethod.GET, BASE_URI + "/options"),
+            tuple(RequestKind.TEMPLATE_SUBMISSION, HttpMethod.POST, BASE_URI));
+  }
+
+  @Test
+  @DisplayName("Interceptors are chained in registration order and can customize the request")
+  void test2() throws Exception {
+    List<String> calls = new ArrayList<>();
+    HalMockMvc.builder(mockMvc)
+        .baseUri(BASE_URI + "/target")
+        .addExecutionInterceptor(
+            (execution, chain) -> {
+              calls.add("first");
+              execution.requestBuilder().header("X-Intercepted", "yes");
+              return chain.proceed(execution);
+            })
+        .addExecutionInterceptor(
+            (execution, chain) -> {
+              calls.add("second");
+              return chain.proceed(execution);
+            })
+        .build()
+        .follow()
+        .get()
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.intercepted").value("yes"));
+
+    assertThat(calls).containsExactly("first", "second");
+  }
+
+  @Test
+  @DisplayName("An interceptor can short-circuit the dispatch")
+  void test3() throws Exception {
+    ResultActions[] recordedResult = new ResultActions[1];
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(BASE_URI + "/target")
+            .addExecutionInterceptor(
+                (execution, chain) -> {
+                  if (recordedResult[0] == null) {
+                    recordedResult[0] = chain.proceed(execution);
+                  }
+                  return recordedResult[0];
+                })
+            .build();
+
+    halMockMvc.follow().get().andExpect(status().isOk());
+    halMockMvc.follow().get().andExpect(status().isOk());
+
+    assertThat(myController.targetCallCount).hasValue(1);
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    private final AtomicInteger targetCallCount = new AtomicInteger();
+
+    private void reset() {
+      targetCallCount.set(0);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> index() {
+      return hal(
+          """
+          {
+            "_links": {
+              "self": {"href": "http://localhost%1$s"},
+              "next": {"href": "http://localhost%1$s/redirect"}
+            },
+            "_templates": {
+              "default": {
+                "method": "POST",
+                "properties": [
+                  {"name": "choice", "options": {"link": {"href": "http://localhost%1$s/options"}}}
+                ]
+              }
+            }
+          }
+          """
+              .formatted(BASE_URI));
+    }
+
+    @PostMapping
+    public ResponseEntity<?> submit() {
+      return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/redirect")
+    public ResponseEntity<?> redirect() {
+      return ResponseEntity.status(302).header("Location", BASE_URI + "/target").build();
+    }
+
+    @GetMapping("/target")
+    public ResponseEntity<?> target(
+        @RequestHeader(value = "X-Intercepted", defaultValue = "no") String intercepted) {
+      targetCallCount.incrementAndGet();
+      return hal(
+          """
+          {"intercepted": "%s", "_links": {"self": {"href": "http://localhost%s/target"}}}
+          """
+              .formatted(intercepted, BASE_URI));
+    }
+
+    @GetMapping("/options")
+    public ResponseEntity<?> options() {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_JSON).body("[\"a\", \"b\"]");
+    }
+
+    private static ResponseEntity<?> hal(String body) {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(body);
+    }
+  }
+}
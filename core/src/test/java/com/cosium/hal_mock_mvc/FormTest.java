@@ -11,7 +11,11 @@ import com.cosium.hal_mock_mvc.PropertyValidationOption.Immediate;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import jakarta.inject.Inject;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +28,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import tools.jackson.core.JacksonException;
 import tools.jackson.jr.ob.JSON;
 
 /**
@@ -2021,6 +2026,403 @@ class FormTest {
     form.submit().andExpect(status().isBadRequest());
   }
 
+  @Test
+  @DisplayName("Forms created from the same template share its validation plan")
+  void test44() throws Exception {
+    myController.getResponseToSend =
+        JSON.std
+            .composeString()
+            .startObject()
+            .startObjectProperty("_links")
+            .startObjectProperty("self")
+            .put("href", "http://localhost/form-test:put")
+            .end()
+            .end()
+            .startObjectProperty("_templates")
+            .startObjectProperty("default")
+            .put("method", "PUT")
+            .startArrayProperty("properties")
+            .startObject()
+            .put("name", "foo")
+            .put("regex", "^[a-z]+$")
+            .end()
+            .startObject()
+            .put("name", "bar")
+            .put("value", "baz")
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .finish();
+
+    Template template =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .build()
+            .follow()
+            .templates()
+            .byKey("default");
+
+    template.createForm().withString("foo", "abc").submit().andExpect(status().isNoContent());
+    TemplateValidationPlan validationPlan = template.representation().validationPlan();
+
+    Form form = template.createForm().withString("foo", "123");
+    assertThat(template.representation().validationPlan()).isSameAs(validationPlan);
+    assertThatThrownBy(form::submit)
+        .isInstanceOf(AssertionError.class)
+        .hasMessage(
+            "An http status code 400 was expected because of the following reasons: [Value '123' of property 'foo' does not match regex '^[a-z]+$']. Got http status code 204 instead.");
+
+    DocumentContext submittedDocument = JsonPath.parse(myController.receivedPutBody);
+    assertThat(submittedDocument.read("$.foo", String.class)).isEqualTo("123");
+    assertThat(submittedDocument.read("$.bar", String.class)).isEqualTo("baz");
+  }
+
+  @Test
+  @DisplayName("An invalid regex only fails the property declaring it")
+  void test45() throws Exception {
+    myController.getResponseToSend =
+        JSON.std
+            .composeString()
+            .startObject()
+            .startObjectProperty("_links")
+            .startObjectProperty("self")
+            .put("href", "http://localhost/form-test:put")
+            .end()
+            .end()
+            .startObjectProperty("_templates")
+            .startObjectProperty("default")
+            .put("method", "PUT")
+            .startArrayProperty("properties")
+            .startObject()
+            .put("name", "foo")
+            .put("regex", "[")
+            .end()
+            .startObject()
+            .put("name", "bar")
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .finish();
+
+    Form form =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .build()
+            .follow()
+            .templates()
+            .byKey("default")
+            .createForm()
+            .withString("bar", "bar");
+
+    assertThatThrownBy(() -> form.withString("foo", "foo"))
+        .isInstanceOf(PatternSyntaxException.class);
+    form.submit().andExpect(status().isNoContent());
+  }
+
+  @Test
+  @DisplayName("Values are matched against a large list of inline options")
+  void test46() throws Exception {
+    int optionCount = 50_000;
+    var inlineComposer =
+        JSON.std
+            .composeString()
+            .startObject()
+            .startObjectProperty("_links")
+            .startObjectProperty("self")
+            .put("href", "http://localhost/form-test:put")
+            .end()
+            .end()
+            .startObjectProperty("_templates")
+            .startObjectProperty("default")
+            .put("method", "PUT")
+            .startArrayProperty("properties")
+            .startObject()
+            .put("name", "foo")
+            .startObjectProperty("options")
+            .startArrayProperty("inline");
+    for (int i = 0; i < optionCount; i++) {
+      inlineComposer.add("option" + i);
+    }
+    myController.getResponseToSend =
+        inlineComposer.end().end().end().end().end().end().end().finish();
+
+    Template template =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .build()
+            .follow()
+            .templates()
+            .byKey("default");
+
+    List<String> values = IntStream.range(0, optionCount).mapToObj("option%s"::formatted).toList();
+    template.createForm().withStrings("foo", values).submit().andExpect(status().isNoContent());
+
+    Form form = template.createForm().withStrings("foo", List.of("option1", "unknown"));
+    assertThatThrownBy(form::submit)
+        .isInstanceOf(AssertionError.class)
+        .hasMessage(
+            "An http status code 400 was expected because of the following reasons: [Value 'unknown' didn't match any inline option of property 'foo' among [StringInlineElementRepresentation[value=option0], StringInlineElementRepresentation[value=option1], StringInlineElementRepresentation[value=option2], StringInlineElementRepresentation[value=option3], StringInlineElementRepresentation[value=option4], StringInlineElementRepresentation[value=option5], StringInlineElementRepresentation[value=option6], StringInlineElementRepresentation[value=option7], StringInlineElementRepresentation[value=option8], StringInlineElementRepresentation[value=option9], ... (49990 more)]]. Got http status code 204 instead.");
+  }
+
+  @Test
+  @DisplayName("Remote options can be cached")
+  void test47() throws Exception {
+    myController.getResponseToSend =
+        JSON.std
+            .composeString()
+            .startObject()
+            .startObjectProperty("_links")
+            .startObjectProperty("self")
+            .put("href", "http://localhost/form-test:put")
+            .end()
+            .end()
+            .startObjectProperty("_templates")
+            .startObjectProperty("default")
+            .put("method", "PUT")
+            .startArrayProperty("properties")
+            .startObject()
+            .put("name", "foo")
+            .startObjectProperty("options")
+            .startObjectProperty("link")
+            .put("href", "http://localhost/form-test:get-options")
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .finish();
+
+    myController.getOptionsResponseToSend =
+        ResponseEntity.ok(
+            JSON.std
+                .composeString()
+                .startArray()
+                .startObject()
+                .put("value", "bar")
+                .end()
+                .end()
+                .finish());
+
+    RemoteOptionsCache remoteOptionsCache = new RemoteOptionsCache(10, Duration.ofHours(1));
+    Template template =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .remoteOptionsCache(remoteOptionsCache)
+            .build()
+            .follow()
+            .templates()
+            .byKey("default");
+
+    for (int i = 0; i < 3; i++) {
+      template.createForm().withString("foo", "bar").submit().andExpect(status().isNoContent());
+    }
+    assertThat(myController.getOptionsCallCount).hasValue(1);
+    assertThat(remoteOptionsCache.missCount()).isEqualTo(1);
+    assertThat(remoteOptionsCache.hitCount()).isEqualTo(2);
+
+    myController.getOptionsResponseToSend =
+        ResponseEntity.ok(
+            JSON.std
+                .composeString()
+                .startArray()
+                .startObject()
+                .put("value", "baz")
+                .end()
+                .end()
+                .finish());
+
+    Form staleForm = template.createForm().withString("foo", "baz");
+    assertThatThrownBy(staleForm::submit).isInstanceOf(AssertionError.class);
+
+    remoteOptionsCache.invalidateAll();
+    template.createForm().withString("foo", "baz").submit().andExpect(status().isNoContent());
+    assertThat(myController.getOptionsCallCount).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Remote options cache evicts by size and time")
+  void test48() throws Exception {
+    myController.getResponseToSend =
+        JSON.std
+            .composeString()
+            .startObject()
+            .startObjectProperty("_links")
+            .startObjectProperty("self")
+            .put("href", "http://localhost/form-test:put")
+            .end()
+            .end()
+            .startObjectProperty("_templates")
+            .startObjectProperty("default")
+            .put("method", "PUT")
+            .startArrayProperty("properties")
+            .startObject()
+            .put("name", "foo")
+            .startObjectProperty("options")
+            .startObjectProperty("link")
+            .put("href", "http://localhost/form-test:get-options?property=foo")
+            .end()
+            .end()
+            .end()
+            .startObject()
+            .put("name", "bar")
+            .startObjectProperty("options")
+            .startObjectProperty("link")
+            .put("href", "http://localhost/form-test:get-options?property=bar")
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .finish();
+
+    myController.getOptionsResponseToSend =
+        ResponseEntity.ok(JSON.std.composeString().startArray().add("baz").end().finish());
+
+    Template sizeBoundedTemplate =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .remoteOptionsCache(new RemoteOptionsCache(1, Duration.ofHours(1)))
+            .build()
+            .follow()
+            .templates()
+            .byKey("default");
+
+    sizeBoundedTemplate
+        .createForm()
+        .withString("foo", "baz")
+        .withString("bar", "baz")
+        .withString("foo", "baz");
+    assertThat(myController.getOptionsCallCount).hasValue(3);
+
+    myController.getOptionsCallCount.set(0);
+    Template timeBoundedTemplate =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .remoteOptionsCache(new RemoteOptionsCache(10, Duration.ZERO))
+            .build()
+            .follow()
+            .templates()
+            .byKey("default");
+
+    timeBoundedTemplate.createForm().withString("foo", "baz").withString("foo", "baz");
+    assertThat(myController.getOptionsCallCount).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Remote options are read until every value is matched")
+  void test49() throws Exception {
+    myController.getResponseToSend =
+        JSON.std
+            .composeString()
+            .startObject()
+            .startObjectProperty("_links")
+            .startObjectProperty("self")
+            .put("href", "http://localhost/form-test:put")
+            .end()
+            .end()
+            .startObjectProperty("_templates")
+            .startObjectProperty("default")
+            .put("method", "PUT")
+            .startArrayProperty("properties")
+            .startObject()
+            .put("name", "foo")
+            .startObjectProperty("options")
+            .put("valueField", "code")
+            .startObjectProperty("link")
+            .put("href", "http://localhost/form-test:get-options")
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .finish();
+
+    myController.getOptionsResponseToSend =
+        ResponseEntity.ok(
+            "[{\"prompt\": \"Bar\", \"code\": \"bar\"}, \"baz\", {\"code\": \"qux\"}, this is not json");
+
+    Template template =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .build()
+            .follow()
+            .templates()
+            .byKey("default");
+
+    template
+        .createForm()
+        .withStrings("foo", List.of("baz", "bar"))
+        .submit()
+        .andExpect(status().isNoContent());
+
+    assertThatThrownBy(() -> template.createForm().withStrings("foo", List.of("bar", "unknown")))
+        .isInstanceOf(JacksonException.class)
+        .hasMessageContaining("Unrecognized token 'this'");
+  }
+
+  @Test
+  @DisplayName("Payload properties follow the template declaration order")
+  void test50() throws Exception {
+    myController.getResponseToSend =
+        JSON.std
+            .composeString()
+            .startObject()
+            .startObjectProperty("_links")
+            .startObjectProperty("self")
+            .put("href", "http://localhost/form-test:put")
+            .end()
+            .end()
+            .startObjectProperty("_templates")
+            .startObjectProperty("default")
+            .put("method", "PUT")
+            .startArrayProperty("properties")
+            .startObject()
+            .put("name", "c")
+            .end()
+            .startObject()
+            .put("name", "a")
+            .put("value", "default")
+            .end()
+            .startObject()
+            .put("name", "b")
+            .end()
+            .end()
+            .end()
+            .end()
+            .end()
+            .finish();
+
+    Form form =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .build()
+            .follow()
+            .templates()
+            .byKey("default")
+            .createForm()
+            .withString("z", "undeclared", Immediate.DO_NOT_FAIL_IF_NOT_DECLARED)
+            .withString("b", "b")
+            .withString("c", "c");
+
+    form.submit().andExpect(status().isNoContent());
+    assertThat(myController.receivedPutBody)
+        .isEqualTo("{\"c\":\"c\",\"a\":\"default\",\"b\":\"b\",\"z\":\"undeclared\"}");
+
+    form.withString("b", null).submit().andExpect(status().isNoContent());
+    assertThat(myController.receivedPutBody)
+        .isEqualTo("{\"c\":\"c\",\"a\":\"default\",\"b\":null,\"z\":\"undeclared\"}");
+  }
+
   @Controller
   public static class MyController {
 
@@ -2028,12 +2430,14 @@ class FormTest {
     private String receivedPutBody;
     private ResponseEntity<?> putResponseToSend;
     private ResponseEntity<?> getOptionsResponseToSend;
+    private final AtomicInteger getOptionsCallCount = new AtomicInteger();
 
     void reset() {
       getResponseToSend = null;
       receivedPutBody = null;
       putResponseToSend = ResponseEntity.noContent().build();
       getOptionsResponseToSend = ResponseEntity.ok().body("[]");
+      getOptionsCallCount.set(0);
     }
 
     @GetMapping(value = "form-test:get", produces = MediaTypes.HAL_FORMS_JSON_VALUE)
@@ -2049,6 +2453,7 @@ class FormTest {
 
     @GetMapping("form-test:get-options")
     public ResponseEntity<?> getOptions() {
+      getOptionsCallCount.incrementAndGet();
       return getOptionsResponseToSend;
     }
   }
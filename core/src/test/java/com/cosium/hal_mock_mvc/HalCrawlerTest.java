@@ -0,0 +1,206 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import jakarta.inject.Inject;
+import java.net.URI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class HalCrawlerTest {
+
+  @Inject private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Every reachable endpoint is visited once in breadth-first order")
+  void test1() throws Exception {
+    CrawlReport report =
+        HalMockMvc.builder(mockMvc).baseUri("/crawler-test/root").build().crawl().run();
+
+    assertThat(report.endpoints())
+        .extracting(CrawlReport.Endpoint::uri)
+        .containsExactly(
+            URI.create("http://localhost/crawler-test/root"),
+            URI.create("http://localhost/crawler-test/a"),
+            URI.create("http://localhost/crawler-test/b"),
+            URI.create("http://localhost/crawler-test/c"),
+            URI.create("http://localhost/crawler-test/d"),
+            URI.create("http://localhost/crawler-test/e"));
+    assertThat(report.endpoints())
+        .extracting(CrawlReport.Endpoint::depth)
+        .containsExactly(0, 1, 1, 2, 2, 3);
+
+    CrawlReport.Endpoint root =
+        report.endpoint(URI.create("http://localhost/crawler-test/root")).orElseThrow();
+    assertThat(root.status()).isEqualTo(200);
+    assertThat(root.responseSize()).isPositive();
+    assertThat(root.latency()).isPositive();
+
+    assertThat(report.failures())
+        .extracting(CrawlReport.Endpoint::uri)
+        .containsExactly(
+            URI.create("http://localhost/crawler-test/a"),
+            URI.create("http://localhost/crawler-test/c"));
+    CrawlReport.Endpoint a =
+        report.endpoint(URI.create("http://localhost/crawler-test/a")).orElseThrow();
+    assertThat(a.templateKeys()).containsExactly("default", "broken");
+    assertThat(a.errors()).singleElement().asString().startsWith("Template 'broken' is invalid");
+    assertThat(report.endpoint(URI.create("http://localhost/crawler-test/c")))
+        .map(CrawlReport.Endpoint::status)
+        .contains(500);
+  }
+
+  @Test
+  @DisplayName("The relation graph reports templated and non-http links without following them")
+  void test2() throws Exception {
+    CrawlReport report =
+        HalMockMvc.builder(mockMvc).baseUri("/crawler-test/root").build().crawl().run();
+
+    assertThat(report.relations())
+        .filteredOn(relation -> relation.source().getPath().equals("/crawler-test/root"))
+        .extracting(CrawlReport.Relation::name, CrawlReport.Relation::target)
+        .containsExactly(
+            tuple("self", URI.create("http://localhost/crawler-test/root")),
+            tuple("a", URI.create("http://localhost/crawler-test/a")),
+            tuple("b", URI.create("http://localhost/crawler-test/b")),
+            tuple("search", null),
+            tuple("contact", null));
+  }
+
+  @Test
+  @DisplayName("Depth can be limited")
+  void test3() throws Exception {
+    CrawlReport report =
+        HalMockMvc.builder(mockMvc)
+            .baseUri("/crawler-test/root")
+            .build()
+            .crawl()
+            .maxDepth(1)
+            .maxConcurrency(1)
+            .run();
+
+    assertThat(report.endpoints())
+        .extracting(CrawlReport.Endpoint::uri)
+        .containsExactly(
+            URI.create("http://localhost/crawler-test/root"),
+            URI.create("http://localhost/crawler-test/a"),
+            URI.create("http://localhost/crawler-test/b"));
+  }
+
+  @Test
+  @DisplayName("Links to another origin are reported without being followed")
+  void test4() throws Exception {
+    CrawlReport report =
+        HalMockMvc.builder(mockMvc).baseUri("/crawler-test/other-origins").build().crawl().run();
+
+    assertThat(report.endpoints())
+        .extracting(CrawlReport.Endpoint::uri)
+        .containsExactly(
+            URI.create("http://localhost/crawler-test/other-origins"),
+            URI.create("http://localhost/crawler-test/e"));
+    assertThat(report.relations())
+        .extracting(CrawlReport.Relation::name, CrawlReport.Relation::target)
+        .containsExactly(
+            tuple("same-origin", URI.create("http://localhost/crawler-test/e")),
+            tuple("other-host", null),
+            tuple("other-scheme", null),
+            tuple("other-port", null),
+            tuple("self", URI.create("http://localhost/crawler-test/e")));
+  }
+
+  @Controller
+  @RequestMapping("/crawler-test")
+  public static class MyController {
+
+    @GetMapping("/root")
+    public ResponseEntity<?> root() {
+      return hal(
+          """
+          {"_links": {
+            "self": {"href": "http://localhost/crawler-test/root"},
+            "a": {"href": "/crawler-test/a"},
+            "b": {"href": "http://localhost/crawler-test/b"},
+            "search": {"href": "/crawler-test/search{?q}", "templated": true},
+            "contact": {"href": "mailto:john@doe.com"}
+          }}
+          """);
+    }
+
+    @GetMapping("/a")
+    public ResponseEntity<?> a() {
+      return hal(
+          """
+          {"_links": {
+            "self": {"href": "/crawler-test/a"},
+            "b": {"href": "b"},
+            "c": {"href": "/crawler-test/c"},
+            "root": {"href": "HTTP://LOCALHOST:80/crawler-test/root#top"}
+          },
+          "_templates": {
+            "default": {"method": "POST", "properties": []},
+            "broken": {"properties": []}
+          }}
+          """);
+    }
+
+    @GetMapping("/b")
+    public ResponseEntity<?> b() {
+      return hal(
+          """
+          {"_links": {
+            "self": {"href": "/crawler-test/b"},
+            "items": [{"href": "/crawler-test/c"}, {"href": "/crawler-test/./d"}]
+          }}
+          """);
+    }
+
+    @GetMapping("/other-origins")
+    public ResponseEntity<?> otherOrigins() {
+      return hal(
+          """
+          {"_links": {
+            "same-origin": {"href": "http://localhost:80/crawler-test/e"},
+            "other-host": {"href": "http://example.com/crawler-test/e"},
+            "other-scheme": {"href": "https://localhost/crawler-test/e"},
+            "other-port": {"href": "http://localhost:8080/crawler-test/e"}
+          }}
+          """);
+    }
+
+    @GetMapping("/c")
+    public ResponseEntity<?> c() {
+      return ResponseEntity.internalServerError().build();
+    }
+
+    @GetMapping("/d")
+    public ResponseEntity<?> d() {
+      return hal(
+          """
+          {"_links": {"self": {"href": "/crawler-test/d"}, "e": {"href": "/crawler-test/e"}}}
+          """);
+    }
+
+    @GetMapping("/e")
+    public ResponseEntity<?> e() {
+      return hal(
+          """
+          {"_links": {"self": {"href": "/crawler-test/e"}}}
+          """);
+    }
+
+    private static ResponseEntity<?> hal(String body) {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(body);
+    }
+  }
+}
@@ -9,20 +9,28 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import jakarta.inject.Inject;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.params.shadow.de.siegmar.fastcsv.util.Nullable;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.mediatype.hal.forms.HalFormsLinkDiscoverer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -207,17 +215,259 @@ class HalMockMvcTest {
         .andExpect(jsonPath("$._embedded.singletonMapList[0].name").value("foo"));
   }
 
+  @Test
+  @DisplayName("Traversal cache skips the hops already resolved")
+  void test11() throws Exception {
+    TraversalCache traversalCache = new TraversalCache();
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get(null)).toUri())
+            .traversalCache(traversalCache)
+            .build();
+
+    halMockMvc.follow("collection").get().andExpect(status().isOk());
+    halMockMvc
+        .follow("collection")
+        .get()
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._embedded.singletonMapList[0].name").value("foo"));
+
+    assertThat(myController.getCallCount).hasValue(1);
+    assertThat(traversalCache.missCount()).isOne();
+    assertThat(traversalCache.hitCount()).isOne();
+  }
+
+  @Test
+  @DisplayName("Traversal cache is invalidated by any non-GET request")
+  void test12() throws Exception {
+    TraversalCache traversalCache = new TraversalCache();
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get(null)).toUri())
+            .traversalCache(traversalCache)
+            .build();
+
+    halMockMvc.follow("collection").get().andExpect(status().isOk());
+    halMockMvc.follow("collection").delete().andExpect(status().isMethodNotAllowed());
+    halMockMvc.follow("collection").get().andExpect(status().isOk());
+
+    assertThat(myController.getCallCount).hasValue(2);
+    assertThat(traversalCache.missCount()).isEqualTo(2);
+    assertThat(traversalCache.hitCount()).isOne();
+  }
+
+  @Test
+  @DisplayName("Traversal cache entries are keyed by hop parameters")
+  void test13() throws Exception {
+    TraversalCache traversalCache = new TraversalCache();
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get(null)).toUri())
+            .traversalCache(traversalCache)
+            .build();
+
+    halMockMvc
+        .follow(
+            Hop.relation("collection-through-redirect").withParameter("redirectStatusCode", 301))
+        .get()
+        .andExpect(status().isOk());
+    halMockMvc
+        .follow(
+            Hop.relation("collection-through-redirect").withParameter("redirectStatusCode", 302))
+        .get()
+        .andExpect(status().isOk());
+
+    assertThat(traversalCache.missCount()).isEqualTo(2);
+    assertThat(traversalCache.hitCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Links declared after _embedded are found")
+  void test14() throws Exception {
+    HalMockMvc.builder(mockMvc)
+        .baseUri(linkTo(methodOn(MyController.class).getLinksAfterEmbedded()).toUri())
+        .build()
+        .follow("collection")
+        .get()
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._embedded.singletonMapList[0].name").value("foo"));
+  }
+
+  @Test
+  @DisplayName("A custom LinkDiscoverer can be used")
+  void test15() throws Exception {
+    AtomicInteger discoveryCount = new AtomicInteger();
+    HalFormsLinkDiscoverer delegate = new HalFormsLinkDiscoverer();
+
+    HalMockMvc.builder(mockMvc)
+        .baseUri(linkTo(methodOn(MyController.class).get(null)).toUri())
+        .linkDiscoverer(
+            new HalFormsLinkDiscoverer() {
+              @Override
+              public Links findLinksWithRel(LinkRelation relation, InputStream representation) {
+                discoveryCount.incrementAndGet();
+                return delegate.findLinksWithRel(relation, representation);
+              }
+            })
+        .build()
+        .follow("collection")
+        .get()
+        .andExpect(status().isOk());
+
+    assertThat(discoveryCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("A redirect loop fails")
+  void test16() {
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).redirectLoop("ping")).toUri())
+            .build();
+
+    assertThatThrownBy(() -> halMockMvc.follow().get())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage(
+            "Redirect loop detected: http://localhost/HalMockMvcTest/redirect-loop/ping -> http://localhost/HalMockMvcTest/redirect-loop/pong -> http://localhost/HalMockMvcTest/redirect-loop/ping");
+  }
+
+  @Test
+  @DisplayName("The number of followed redirects is limited")
+  void test17() throws Exception {
+    HalMockMvc.builder(mockMvc)
+        .baseUri(linkTo(methodOn(MyController.class).redirectChain(3)).toUri())
+        .maxRedirects(4)
+        .build()
+        .follow()
+        .get()
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._embedded.singletonMapList[0].name").value("foo"));
+
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).redirectChain(3)).toUri())
+            .maxRedirects(3)
+            .build();
+    assertThatThrownBy(() -> halMockMvc.follow().get())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage(
+            "Exceeded the maximum of 3 redirects while following http://localhost/HalMockMvcTest/redirect-chain/3");
+  }
+
+  @ParameterizedTest
+  @CsvSource({"301,1,1", "308,1,1", "302,2,0", "307,2,0"})
+  @DisplayName("Permanent redirects can be cached")
+  void test18(int redirectStatusCode, int expectedRedirectCallCount, long expectedHitCount)
+      throws Exception {
+    RedirectCache redirectCache = new RedirectCache();
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get(null)).toUri())
+            .redirectCache(redirectCache)
+            .build();
+
+    for (int i = 0; i < 2; i++) {
+      halMockMvc
+          .follow(
+              Hop.relation("collection-through-redirect")
+                  .withParameter("redirectStatusCode", redirectStatusCode))
+          .get()
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$._embedded.singletonMapList[0].name").value("foo"));
+    }
+
+    assertThat(myController.redirectToCollectionCallCount).hasValue(expectedRedirectCallCount);
+    assertThat(redirectCache.hitCount()).isEqualTo(expectedHitCount);
+  }
+
+  @Test
+  @DisplayName("Conditional hop cache reuses the links of a hop answered with an ETag")
+  void test19() throws Exception {
+    ConditionalHopCache conditionalHopCache = new ConditionalHopCache();
+    AtomicInteger discoveryCount = new AtomicInteger();
+    HalFormsLinkDiscoverer delegate = new HalFormsLinkDiscoverer();
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).getWithETag(null)).toUri())
+            .conditionalHopCache(conditionalHopCache)
+            .linkDiscoverer(
+                new HalFormsLinkDiscoverer() {
+                  @Override
+                  public Links findLinksWithRel(LinkRelation relation, InputStream representation) {
+                    discoveryCount.incrementAndGet();
+                    return delegate.findLinksWithRel(relation, representation);
+                  }
+                })
+            .build();
+
+    halMockMvc.follow("collection").get().andExpect(status().isOk());
+    assertThat(myController.ifNoneMatchReceived).isNull();
+    halMockMvc
+        .follow("collection")
+        .get()
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._embedded.singletonMapList[0].name").value("foo"));
+    assertThat(myController.ifNoneMatchReceived).isEqualTo("\"1\"");
+
+    assertThat(conditionalHopCache.missCount()).isOne();
+    assertThat(conditionalHopCache.hitCount()).isOne();
+    assertThat(discoveryCount).hasValue(1);
+
+    myController.version.incrementAndGet();
+    halMockMvc.follow("collection").get().andExpect(status().isOk());
+
+    assertThat(conditionalHopCache.missCount()).isEqualTo(2);
+    assertThat(conditionalHopCache.hitCount()).isOne();
+    assertThat(discoveryCount).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Conditional hop cache revalidates a hop answered with a Last-Modified date")
+  void test20() throws Exception {
+    ConditionalHopCache conditionalHopCache = new ConditionalHopCache();
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).getWithLastModified()).toUri())
+            .conditionalHopCache(conditionalHopCache)
+            .build();
+
+    halMockMvc.follow("collection").get().andExpect(status().isOk());
+    halMockMvc.follow("collection").get().andExpect(status().isOk());
+
+    assertThat(conditionalHopCache.missCount()).isOne();
+    assertThat(conditionalHopCache.hitCount()).isOne();
+  }
+
+  @Test
+  @DisplayName("A hop answered with a plain HAL content type is followed")
+  void test21() throws Exception {
+    HalMockMvc.builder(mockMvc)
+        .baseUri(linkTo(methodOn(MyController.class).getPlainHal()).toUri())
+        .build()
+        .follow("collection")
+        .get()
+        .andExpect(status().isOk());
+  }
+
   @Controller
   @RequestMapping("/HalMockMvcTest")
   public static class MyController {
 
     private final AtomicBoolean getDeleteCalled = new AtomicBoolean();
+    private final AtomicInteger getCallCount = new AtomicInteger();
+    private final AtomicInteger redirectToCollectionCallCount = new AtomicInteger();
+    private final AtomicInteger version = new AtomicInteger();
+    private String ifNoneMatchReceived;
     private final Map<String, MultipartFile> fileById = new HashMap<>();
     private HttpHeaders headersReceivedByGet;
     private HttpHeaders headersReceivedByGetCollection;
 
     private void reset() {
       getDeleteCalled.set(false);
+      getCallCount.set(0);
+      redirectToCollectionCallCount.set(0);
+      version.set(1);
+      ifNoneMatchReceived = null;
       fileById.clear();
       headersReceivedByGet = null;
       headersReceivedByGetCollection = null;
@@ -226,6 +476,7 @@ class HalMockMvcTest {
     @GetMapping
     public ResponseEntity<?> get(@RequestHeader HttpHeaders headers) {
       headersReceivedByGet = headers;
+      getCallCount.incrementAndGet();
       return ResponseEntity.ok(
           new RepresentationModel<>(
               List.of(
@@ -243,6 +494,18 @@ class HalMockMvcTest {
           CollectionModel.of(Collections.singleton(Collections.singletonMap("name", "foo"))));
     }
 
+    @GetMapping("/links-after-embedded")
+    public ResponseEntity<?> getLinksAfterEmbedded() {
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_FORMS_JSON)
+          .body(
+              """
+              {"_embedded": {"items": [{"_links": {"collection": {"href": "/nested"}}}]},
+               "_links": {"collection": {"href": "%s"}}}
+              """
+                  .formatted(linkTo(methodOn(MyController.class).getCollection(null)).toUri()));
+    }
+
     @GetMapping("/delete")
     public ResponseEntity<?> getDelete() {
       getDeleteCalled.set(true);
@@ -280,6 +543,7 @@ class HalMockMvcTest {
         @RequestParam("redirectStatusCode") @Nullable Integer redirectStatusCode) {
 
       requireNonNull(redirectStatusCode);
+      redirectToCollectionCallCount.incrementAndGet();
 
       return ResponseEntity.status(redirectStatusCode)
           .location(linkTo(methodOn(MyController.class).getCollection(null)).toUri())
@@ -296,5 +560,57 @@ class HalMockMvcTest {
           .location(linkTo(methodOn(MyController.class).get(null)).toUri())
           .build();
     }
+
+    @GetMapping("/redirect-loop/{step}")
+    public ResponseEntity<?> redirectLoop(@PathVariable("step") String step) {
+      String nextStep = "ping".equals(step) ? "pong" : "ping";
+      return ResponseEntity.status(302)
+          .location(linkTo(methodOn(MyController.class).redirectLoop(nextStep)).toUri())
+          .build();
+    }
+
+    @GetMapping("/redirect-chain/{remaining}")
+    public ResponseEntity<?> redirectChain(@PathVariable("remaining") int remaining) {
+      if (remaining == 0) {
+        return ResponseEntity.status(302)
+            .location(linkTo(methodOn(MyController.class).getCollection(null)).toUri())
+            .build();
+      }
+      return ResponseEntity.status(302)
+          .location(linkTo(methodOn(MyController.class).redirectChain(remaining - 1)).toUri())
+          .build();
+    }
+
+    @GetMapping("/etag")
+    public ResponseEntity<?> getWithETag(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Nullable
+            String ifNoneMatch) {
+      ifNoneMatchReceived = ifNoneMatch;
+      return ResponseEntity.ok()
+          .eTag(String.valueOf(version.get()))
+          .body(
+              new RepresentationModel<>(
+                  linkTo(methodOn(MyController.class).getCollection(null)).withRel("collection")));
+    }
+
+    @GetMapping("/plain-hal")
+    public ResponseEntity<?> getPlainHal() {
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_JSON)
+          .body(
+              """
+              {"_links": {"collection": {"href": "%s"}}}
+              """
+                  .formatted(linkTo(methodOn(MyController.class).getCollection(null)).toUri()));
+    }
+
+    @GetMapping("/last-modified")
+    public ResponseEntity<?> getWithLastModified() {
+      return ResponseEntity.ok()
+          .lastModified(Instant.parse("2024-01-01T00:00:00Z"))
+          .body(
+              new RepresentationModel<>(
+                  linkTo(methodOn(MyController.class).getCollection(null)).withRel("collection")));
+    }
   }
 }
@@ -0,0 +1,153 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class JfrEventsTest {
+
+  private static final String BASE_URI = "/JfrEventsTest";
+
+  @Inject private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Traversal, hops, templates parsing, options fetch and form submission are recorded")
+  void test1(@TempDir Path directory) throws Exception {
+    Path recordingFile = directory.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      List.of(
+              "com.cosium.hal_mock_mvc.Traversal",
+              "com.cosium.hal_mock_mvc.Hop",
+              "com.cosium.hal_mock_mvc.TemplatesParsing",
+              "com.cosium.hal_mock_mvc.OptionsFetch",
+              "com.cosium.hal_mock_mvc.FormSubmission")
+          .forEach(eventName -> recording.enable(eventName).withoutThreshold());
+      recording.start();
+
+      HalMockMvc.builder(mockMvc)
+          .baseUri(BASE_URI)
+          .build()
+          .follow("next")
+          .templates()
+          .byKey("default")
+          .createForm()
+          .withString("choice", "a")
+          .submit()
+          .andExpect(status().isNoContent());
+
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+    assertThat(events)
+        .filteredOn(event -> event.getEventType().getName().equals("com.cosium.hal_mock_mvc.Hop"))
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.getString("relation")).isEqualTo("next");
+              assertThat(event.getString("uri")).isEqualTo(BASE_URI);
+              assertThat(event.getInt("status")).isEqualTo(200);
+              assertThat(event.getLong("bytes")).isEqualTo(MyController.INDEX.length());
+            });
+    assertThat(events)
+        .filteredOn(
+            event -> event.getEventType().getName().equals("com.cosium.hal_mock_mvc.Traversal"))
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.getString("relations")).isEqualTo("next");
+              assertThat(event.getString("targetUri"))
+                  .isEqualTo("http://localhost" + BASE_URI + "/form");
+            });
+    assertThat(events)
+        .filteredOn(
+            event ->
+                event.getEventType().getName().equals("com.cosium.hal_mock_mvc.TemplatesParsing"))
+        .singleElement()
+        .satisfies(event -> assertThat(event.getInt("templateCount")).isOne());
+    assertThat(events)
+        .filteredOn(
+            event -> event.getEventType().getName().equals("com.cosium.hal_mock_mvc.OptionsFetch"))
+        .singleElement()
+        .satisfies(event -> assertThat(event.getString("property")).isEqualTo("choice"));
+    assertThat(events)
+        .filteredOn(
+            event ->
+                event.getEventType().getName().equals("com.cosium.hal_mock_mvc.FormSubmission"))
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.getString("templateKey")).isEqualTo("default");
+              assertThat(event.getInt("status")).isEqualTo(204);
+            });
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    private static final String INDEX =
+        """
+        {"_links": {"self": {"href": "http://localhost%1$s"}, "next": {"href": "http://localhost%1$s/form"}}}
+        """
+            .formatted(BASE_URI);
+
+    private static final String FORM =
+        """
+        {
+          "_links": {"self": {"href": "http://localhost%1$s/form"}},
+          "_templates": {
+            "default": {
+              "method": "POST",
+              "properties": [
+                {"name": "choice", "options": {"link": {"href": "http://localhost%1$s/options"}}}
+              ]
+            }
+          }
+        }
+        """
+            .formatted(BASE_URI);
+
+    @GetMapping
+    public ResponseEntity<?> index() {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(INDEX);
+    }
+
+    @GetMapping("/form")
+    public ResponseEntity<?> form() {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(FORM);
+    }
+
+    @PostMapping("/form")
+    public ResponseEntity<?> submit() {
+      return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/options")
+    public ResponseEntity<?> options() {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_JSON).body("[\"a\", \"b\"]");
+    }
+  }
+}
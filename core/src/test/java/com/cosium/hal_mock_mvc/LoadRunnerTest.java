@@ -0,0 +1,163 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class LoadRunnerTest {
+
+  private static final String BASE_URI = "/LoadRunnerTest";
+
+  @Inject private MockMvc mockMvc;
+  @Inject private MyController myController;
+
+  private HalMockMvc halMockMvc;
+
+  @BeforeEach
+  void beforeEach() {
+    myController.submitCount.set(0);
+    halMockMvc = HalMockMvc.builder(mockMvc).baseUri(BASE_URI).build();
+  }
+
+  @Test
+  @DisplayName("A fixed number of iterations is shared by the workers and each step is measured")
+  void test1() throws Exception {
+    LoadReport report =
+        halMockMvc
+            .load()
+            .workers(4)
+            .iterations(50)
+            .run(
+                (halMockMvc, steps) -> {
+                  Templates templates =
+                      steps.step("templates", () -> halMockMvc.follow("next").templates());
+                  steps.step(
+                      "submit",
+                      () ->
+                          templates
+                              .byKey("default")
+                              .createForm()
+                              .withString("name", "john")
+                              .submit()
+                              .andExpect(status().isNoContent()));
+                });
+
+    assertThat(report.failureCount()).isZero();
+    assertThat(report.iterationCount()).isEqualTo(50);
+    assertThat(report.steps()).containsOnlyKeys("templates", "submit");
+    assertThat(report.step("templates").count()).isEqualTo(50);
+    assertThat(report.step("submit").count()).isEqualTo(50);
+    assertThat(report.throughput()).isPositive();
+    assertThat(myController.submitCount).hasValue(50);
+  }
+
+  @Test
+  @DisplayName("Iterations run until the duration elapsed")
+  void test2() throws Exception {
+    LoadReport report =
+        halMockMvc
+            .load()
+            .workers(2)
+            .duration(Duration.ofMillis(200))
+            .run((halMockMvc, steps) -> halMockMvc.follow("next").get());
+
+    assertThat(report.iterationCount()).isPositive();
+    assertThat(report.duration()).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+  }
+
+  @Test
+  @DisplayName("Failing iterations are counted and the run goes on")
+  void test3() throws Exception {
+    AtomicInteger iterationCount = new AtomicInteger();
+    LoadReport report =
+        halMockMvc
+            .load()
+            .workers(1)
+            .iterations(10)
+            .run(
+                (halMockMvc, steps) -> {
+                  if (iterationCount.incrementAndGet() % 2 == 0) {
+                    halMockMvc.follow("missing").get();
+                  }
+                });
+
+    assertThat(report.iterationCount()).isEqualTo(10);
+    assertThat(report.failureCount()).isEqualTo(5);
+    assertThat(report.firstFailure()).containsInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Percentiles are within 1/16th of the recorded latencies")
+  void test4() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(Duration.ofMillis(i).toNanos());
+    }
+
+    assertThat(histogram.count()).isEqualTo(1000);
+    assertThat(histogram.min()).isEqualTo(Duration.ofMillis(1));
+    assertThat(histogram.max()).isEqualTo(Duration.ofMillis(1000));
+    assertThat(histogram.percentile(50).toNanos())
+        .isCloseTo(Duration.ofMillis(500).toNanos(), within(Duration.ofMillis(500).toNanos() / 16));
+    assertThat(histogram.percentile(99).toNanos())
+        .isCloseTo(Duration.ofMillis(990).toNanos(), within(Duration.ofMillis(990).toNanos() / 16));
+    assertThat(histogram.buckets().stream().mapToLong(LatencyHistogram.Bucket::count).sum())
+        .isEqualTo(1000);
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    private final AtomicInteger submitCount = new AtomicInteger();
+
+    @GetMapping
+    public ResponseEntity<?> index() {
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_FORMS_JSON)
+          .body(
+              """
+              {"_links": {"self": {"href": "http://localhost%1$s"}, "next": {"href": "http://localhost%1$s/form"}}}
+              """
+                  .formatted(BASE_URI));
+    }
+
+    @GetMapping("/form")
+    public ResponseEntity<?> form() {
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_FORMS_JSON)
+          .body(
+              """
+              {
+                "_links": {"self": {"href": "http://localhost%1$s/form"}},
+                "_templates": {"default": {"method": "POST", "properties": [{"name": "name"}]}}
+              }
+              """
+                  .formatted(BASE_URI));
+    }
+
+    @PostMapping("/form")
+    public ResponseEntity<?> submit() {
+      submitCount.incrementAndGet();
+      return ResponseEntity.noContent().build();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class MetricsListenerTest {
+
+  private static final String BASE_URI = "/MetricsListenerTest";
+
+  @Inject private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Dispatch, parsing and validation are measured and tagged")
+  void test1() throws Exception {
+    List<MetricsListener.Measurement> measurements = new ArrayList<>();
+
+    HalMockMvc.builder(mockMvc)
+        .baseUri(BASE_URI)
+        .addMetricsListener(measurements::add)
+        .build()
+        .follow("next")
+        .templates()
+        .byKey("default")
+        .createForm()
+        .withString("name", "john")
+        .submit()
+        .andExpect(status().isNoContent());
+
+    assertThat(measurements)
+        .extracting(
+            MetricsListener.Measurement::phase,
+            MetricsListener.Measurement::requestKind,
+            measurement -> measurement.uri().getPath(),
+            MetricsListener.Measurement::tag)
+        .containsExactly(
+            tuple(MetricsListener.Phase.DISPATCH, RequestKind.RELATION_FETCH, BASE_URI, "next"),
+            tuple(MetricsListener.Phase.LINKS_PARSING, null, BASE_URI, "next"),
+            tuple(
+                MetricsListener.Phase.DISPATCH,
+                RequestKind.TEMPLATES_FETCH,
+                BASE_URI + "/form",
+                null),
+            tuple(MetricsListener.Phase.TEMPLATES_PARSING, null, BASE_URI + "/form", null),
+            tuple(MetricsListener.Phase.TEMPLATES_PARSING, null, BASE_URI + "/form", "default"),
+            tuple(MetricsListener.Phase.FORM_VALIDATION, null, BASE_URI + "/form", "name"),
+            tuple(
+                MetricsListener.Phase.DISPATCH,
+                RequestKind.TEMPLATE_SUBMISSION,
+                BASE_URI + "/form",
+                "default"));
+    assertThat(measurements)
+        .allSatisfy(measurement -> assertThat(measurement.durationNanos()).isPositive());
+    assertThat(measurements.get(0).bytes()).isEqualTo(MyController.INDEX.length());
+    assertThat(measurements.get(2).bytes()).isEqualTo(MyController.FORM.length());
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    private static final String INDEX =
+        """
+        {"_links": {"self": {"href": "http://localhost%1$s"}, "next": {"href": "http://localhost%1$s/form"}}}
+        """
+            .formatted(BASE_URI);
+
+    private static final String FORM =
+        """
+        {
+          "_links": {"self": {"href": "http://localhost%1$s/form"}},
+          "_templates": {"default": {"method": "POST", "properties": [{"name": "name"}]}}
+        }
+        """
+            .formatted(BASE_URI);
+
+    @GetMapping
+    public ResponseEntity<?> index() {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(INDEX);
+    }
+
+    @GetMapping("/form")
+    public ResponseEntity<?> form() {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(FORM);
+    }
+
+    @PostMapping("/form")
+    public ResponseEntity<?> submit() {
+      return ResponseEntity.noContent().build();
+    }
+  }
+}
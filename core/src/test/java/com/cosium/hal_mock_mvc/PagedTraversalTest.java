@@ -0,0 +1,146 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class PagedTraversalTest {
+
+  private static final String BASE_URI = "/PagedTraversalTest";
+
+  @Inject private MockMvc mockMvc;
+  @Inject private MyController myController;
+
+  private HalMockMvc halMockMvc;
+
+  @BeforeEach
+  void beforeEach() {
+    myController.reset();
+    halMockMvc = HalMockMvc.builder(mockMvc).baseUri(BASE_URI).build();
+  }
+
+  @Test
+  @DisplayName("Items of every page are streamed by following the next links")
+  void test1() {
+    List<String> names =
+        halMockMvc
+            .follow("items")
+            .pages()
+            .items("items")
+            .map(item -> item.path("name").asString())
+            .toList();
+
+    assertThat(names).containsExactly("0-a", "0-b", "1-a", "1-b", "2-a", "2-b");
+    assertThat(myController.indexCallCount).hasValue(1);
+    assertThat(myController.pageCallCount).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("Pages are only fetched when the stream reaches them")
+  void test2() {
+    List<PagedTraversal.Page> pages = halMockMvc.follow("items").pages().stream().limit(2).toList();
+
+    assertThat(pages)
+        .extracting(PagedTraversal.Page::number, page -> page.uri().getQuery())
+        .containsExactly(tuple(0, "page=0"), tuple(1, "page=1"));
+    assertThat(myController.pageCallCount).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("The next page is prefetched while the current one is consumed")
+  void test3() throws Exception {
+    try (Stream<PagedTraversal.Page> pages =
+        halMockMvc.follow("items").pages().prefetch().stream()) {
+      PagedTraversal.Page firstPage = pages.findFirst().orElseThrow();
+
+      assertThat(firstPage.embedded("items")).hasSize(2);
+      assertThat(myController.secondPageFetched.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("Page templates require a HAL-FORMS content type")
+  void test4() throws Exception {
+    List<PagedTraversal.Page> pages = halMockMvc.follow("items").pages().stream().toList();
+
+    assertThat(pages.get(0).templates().list()).isEmpty();
+    PagedTraversal.Page lastPage = pages.get(pages.size() - 1);
+    assertThatThrownBy(lastPage::templates).isInstanceOf(AssertionError.class);
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    private static final int PAGE_COUNT = 3;
+
+    private final AtomicInteger indexCallCount = new AtomicInteger();
+    private final AtomicInteger pageCallCount = new AtomicInteger();
+    private CountDownLatch secondPageFetched = new CountDownLatch(1);
+
+    private void reset() {
+      indexCallCount.set(0);
+      pageCallCount.set(0);
+      secondPageFetched = new CountDownLatch(1);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> index() {
+      indexCallCount.incrementAndGet();
+      return hal(
+          """
+          {"_links": {"self": {"href": "http://localhost%1$s"}, "items": {"href": "http://localhost%1$s/items?page=0"}}}
+          """
+              .formatted(BASE_URI));
+    }
+
+    @GetMapping("/items")
+    public ResponseEntity<?> page(@RequestParam int page) {
+      pageCallCount.incrementAndGet();
+      if (page == 1) {
+        secondPageFetched.countDown();
+      }
+      String next =
+          page + 1 < PAGE_COUNT
+              ? ", \"next\": {\"href\": \"http://localhost%s/items?page=%d\"}"
+                  .formatted(BASE_URI, page + 1)
+              : "";
+      // The last page is a plain HAL document
+      return ResponseEntity.ok()
+          .contentType(page + 1 < PAGE_COUNT ? MediaTypes.HAL_FORMS_JSON : MediaTypes.HAL_JSON)
+          .body(
+              """
+          {
+            "_links": {"self": {"href": "http://localhost%1$s/items?page=%2$d"}%3$s},
+            "_embedded": {"items": [{"name": "%2$d-a"}, {"name": "%2$d-b"}]}
+          }
+          """
+                  .formatted(BASE_URI, page, next));
+    }
+
+    private static ResponseEntity<?> hal(String body) {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(body);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class SingleFlightTest {
+
+  private static final String BASE_URI = "/SingleFlightTest";
+
+  @Inject private MockMvc mockMvc;
+  @Inject private MyController myController;
+
+  private SingleFlight singleFlight;
+
+  @BeforeEach
+  void beforeEach() {
+    singleFlight = new SingleFlight();
+    myController.reset();
+  }
+
+  @Test
+  @DisplayName("Identical concurrent relation fetches share a single dispatch")
+  void test1() throws Exception {
+    int callerCount = 4;
+    myController.awaitCoalescedCallers(singleFlight, callerCount - 1);
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc).baseUri(BASE_URI).singleFlight(singleFlight).build();
+
+    List<CompletableFuture<ResultActions>> futures =
+        IntStream.range(0, callerCount)
+            .mapToObj(i -> halMockMvc.async().follow("next").get())
+            .toList();
+
+    for (CompletableFuture<ResultActions> future : futures) {
+      future.get(10, TimeUnit.SECONDS).andExpect(status().isOk());
+    }
+    assertThat(myController.indexCallCount).hasValue(1);
+    assertThat(myController.nextCallCount).hasValue(callerCount);
+    assertThat(singleFlight.dispatchCount()).isEqualTo(1);
+    assertThat(singleFlight.coalescedCount()).isEqualTo(callerCount - 1);
+  }
+
+  @Test
+  @DisplayName("Nothing is kept once a dispatch completes")
+  void test2() throws Exception {
+    HalMockMvc halMockMvc =
+        HalMockMvc.builder(mockMvc).baseUri(BASE_URI).singleFlight(singleFlight).build();
+
+    halMockMvc.follow("next").get().andExpect(status().isOk());
+    halMockMvc.follow("next").get().andExpect(status().isOk());
+
+    assertThat(myController.indexCallCount).hasValue(2);
+    assertThat(singleFlight.coalescedCount()).isZero();
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    private final AtomicInteger indexCallCount = new AtomicInteger();
+    private final AtomicInteger nextCallCount = new AtomicInteger();
+    private volatile SingleFlight awaitedSingleFlight;
+    private volatile int awaitedCoalescedCount;
+
+    private void reset() {
+      indexCallCount.set(0);
+      nextCallCount.set(0);
+      awaitedSingleFlight = null;
+      awaitedCoalescedCount = 0;
+    }
+
+    /** Holds the index response until the provided number of callers wait for it */
+    private void awaitCoalescedCallers(SingleFlight singleFlight, int coalescedCount) {
+      awaitedSingleFlight = singleFlight;
+      awaitedCoalescedCount = coalescedCount;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> index() throws InterruptedException {
+      indexCallCount.incrementAndGet();
+      SingleFlight singleFlight = awaitedSingleFlight;
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (singleFlight != null
+          && singleFlight.coalescedCount() < awaitedCoalescedCount
+          && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      return hal(
+          """
+          {"_links": {"self": {"href": "http://localhost%1$s"}, "next": {"href": "http://localhost%1$s/next"}}}
+          """
+              .formatted(BASE_URI));
+    }
+
+    @GetMapping("/next")
+    public ResponseEntity<?> next() {
+      nextCallCount.incrementAndGet();
+      return hal(
+          """
+          {"_links": {"self": {"href": "http://localhost%s/next"}}}
+          """
+              .formatted(BASE_URI));
+    }
+
+    private static ResponseEntity<?> hal(String body) {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(body);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.hateoas.mediatype.hal.forms.HalFormsLinkDiscoverer;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+class StreamingHalLinkDiscovererTest {
+
+  private static final String REPRESENTATION =
+      """
+      {"name": "john",
+       "_embedded": {"items": [{"_links": {"single": {"href": "/embedded"}}}]},
+       "_links": {
+         "single": {"href": "/single"},
+         "array": [{"href": "/first"}, {"href": "/second", "title": "Second"}],
+         "attributes": {
+           "href": "/search{?q}",
+           "templated": true,
+           "type": "application/hal+json",
+           "deprecation": "https://example.com/deprecation",
+           "profile": "https://example.com/profile",
+           "name": "search",
+           "title": "Search",
+           "hreflang": "en",
+           "media": "screen"
+         }
+       }}
+      """;
+
+  private final LinkDiscoverer streaming = StreamingHalLinkDiscoverer.INSTANCE;
+  private final LinkDiscoverer reference = new HalFormsLinkDiscoverer();
+
+  @ParameterizedTest
+  @ValueSource(strings = {"single", "array", "attributes", "missing"})
+  @DisplayName("Links are discovered like the HAL-FORMS link discoverer does")
+  void test1(String relationName) {
+    LinkRelation relation = LinkRelation.of(relationName);
+    assertThat(reference.findLinksWithRel(relation, REPRESENTATION).isEmpty())
+        .isEqualTo("missing".equals(relationName));
+
+    assertThat(streaming.findLinksWithRel(relation, REPRESENTATION))
+        .isEqualTo(reference.findLinksWithRel(relation, REPRESENTATION));
+    assertThat(streaming.findLinksWithRel(relation, inputStream()))
+        .isEqualTo(reference.findLinksWithRel(relation, inputStream()));
+    assertThat(streaming.findLinkWithRel(relation, REPRESENTATION))
+        .isEqualTo(reference.findLinkWithRel(relation, REPRESENTATION));
+    assertThat(streaming.findLinkWithRel(relation, inputStream()))
+        .isEqualTo(reference.findLinkWithRel(relation, inputStream()));
+  }
+
+  private static ByteArrayInputStream inputStream() {
+    return new ByteArrayInputStream(REPRESENTATION.getBytes(StandardCharsets.UTF_8));
+  }
+}
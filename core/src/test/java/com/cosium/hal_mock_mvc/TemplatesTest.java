@@ -0,0 +1,124 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import jakarta.inject.Inject;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import tools.jackson.jr.ob.JSON;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class TemplatesTest {
+
+  @Inject private MyController myController;
+  @Inject private MockMvc mockMvc;
+
+  @BeforeEach
+  void beforeEach() {
+    myController.reset();
+  }
+
+  @Test
+  @DisplayName("A template is only read when requested")
+  void test1() throws Exception {
+    myController.getResponseToSend =
+        JSON.std
+            .composeString()
+            .startObject()
+            .startObjectProperty("_embedded")
+            .startArrayProperty("items")
+            .startObject()
+            .put("name", "foo")
+            .end()
+            .end()
+            .end()
+            .startObjectProperty("_templates")
+            .startObjectProperty("broken")
+            .startArrayProperty("properties")
+            .end()
+            .end()
+            .startObjectProperty("default")
+            .put("method", "PUT")
+            .startArrayProperty("properties")
+            .startObject()
+            .put("name", "foo")
+            .end()
+            .end()
+            .end()
+            .end()
+            .startObjectProperty("_links")
+            .startObjectProperty("self")
+            .put("href", "http://localhost/templates-test:put")
+            .end()
+            .end()
+            .end()
+            .finish();
+
+    Templates templates =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .build()
+            .follow()
+            .templates();
+
+    Template template = templates.byKey("default");
+    assertThat(template.representation().method()).isEqualTo("PUT");
+    assertThat(template.representation().propertyByName()).containsOnlyKeys("foo");
+    assertThat(templates.byKey("default").representation()).isSameAs(template.representation());
+    assertThat(templates.byOptionalKey("missing")).isEmpty();
+    assertThatThrownBy(() -> templates.byKey("broken"))
+        .hasRootCauseInstanceOf(NullPointerException.class)
+        .hasRootCauseMessage("Attribute 'method' is missing");
+  }
+
+  @Test
+  @DisplayName("A missing self link fails")
+  void test2() throws Exception {
+    myController.getResponseToSend =
+        JSON.std
+            .composeString()
+            .startObject()
+            .startObjectProperty("_templates")
+            .end()
+            .end()
+            .finish();
+
+    HalMockMvc.TraversalBuilder traversalBuilder =
+        HalMockMvc.builder(mockMvc)
+            .baseUri(linkTo(methodOn(MyController.class).get()).toUri())
+            .build()
+            .follow();
+
+    assertThatThrownBy(traversalBuilder::templates)
+        .isInstanceOf(NoSuchElementException.class)
+        .hasMessage("_link.self is missing from the HAL forms representation");
+  }
+
+  @Controller
+  public static class MyController {
+
+    private String getResponseToSend;
+
+    void reset() {
+      getResponseToSend = null;
+    }
+
+    @GetMapping(value = "templates-test:get", produces = MediaTypes.HAL_FORMS_JSON_VALUE)
+    public ResponseEntity<?> get() {
+      return ResponseEntity.ok(getResponseToSend);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.cosium.hal_mock_mvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.inject.Inject;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@HalMockMvcBootTest
+class TraversalRecordingTest {
+
+  private static final String BASE_URI = "/TraversalRecordingTest";
+
+  @Inject private MockMvc mockMvc;
+  @Inject private MyController myController;
+
+  @TempDir private Path directory;
+
+  @BeforeEach
+  void beforeEach() {
+    myController.reset();
+  }
+
+  @Test
+  @DisplayName("Recorded relation and options fetches are replayed from the file")
+  void test1() throws Exception {
+    Path file = directory.resolve("traversal.recording");
+    TraversalRecording recording = new TraversalRecording();
+    submitForm(recording.recorder());
+    recording.save(file);
+    assertThat(recording.size()).isEqualTo(2);
+    myController.reset();
+
+    TraversalRecording loadedRecording = TraversalRecording.load(file);
+    submitForm(loadedRecording.replayer());
+
+    assertThat(loadedRecording.mismatches()).isEmpty();
+    assertThat(myController.indexCallCount).hasValue(0);
+    assertThat(myController.optionsCallCount).hasValue(0);
+    assertThat(myController.formCallCount).hasValue(1);
+    assertThat(myController.submitCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("A request missing from the recording is dispatched and reported")
+  void test2() throws Exception {
+    TraversalRecording recording = new TraversalRecording();
+
+    submitForm(recording.replayer());
+
+    assertThat(recording.mismatches())
+        .extracting(mismatch -> mismatch.uri().getPath())
+        .containsExactly(BASE_URI, BASE_URI + "/options");
+    assertThat(myController.indexCallCount).hasValue(1);
+    assertThat(myController.optionsCallCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("The verifier reports the responses that drifted from the recording")
+  void test3() throws Exception {
+    TraversalRecording recording = new TraversalRecording();
+    submitForm(recording.recorder());
+
+    myController.optionValue = "b";
+    submitForm(recording.verifier());
+
+    assertThat(recording.mismatches())
+        .singleElement()
+        .satisfies(
+            mismatch -> {
+              assertThat(mismatch.uri().getPath()).isEqualTo(BASE_URI + "/options");
+              assertThat(mismatch.description())
+                  .isEqualTo("The body differs from the recorded one");
+            });
+  }
+
+  @Test
+  @DisplayName("A response recorded for other request headers is not replayed")
+  void test4() throws Exception {
+    TraversalRecording recording = new TraversalRecording();
+    submitForm(recording.recorder(), "Bearer john");
+    myController.reset();
+
+    submitForm(recording.replayer(), "Bearer jane");
+
+    assertThat(recording.mismatches())
+        .extracting(mismatch -> mismatch.uri().getPath(), TraversalRecording.Mismatch::description)
+        .containsExactly(
+            tuple(
+                BASE_URI,
+                "No response recorded for the request headers {accept=[application/prs.hal-forms+json], authorization=[Bearer jane]}"),
+            tuple(
+                BASE_URI + "/options",
+                "No response recorded for the request headers {accept=[application/prs.hal-forms+json], authorization=[Bearer jane]}"));
+    assertThat(myController.indexCallCount).hasValue(1);
+    assertThat(myController.optionsCallCount).hasValue(1);
+  }
+
+  private void submitForm(ExecutionInterceptor interceptor) throws Exception {
+    submitForm(interceptor, "Bearer john");
+  }
+
+  private void submitForm(ExecutionInterceptor interceptor, String authorization) throws Exception {
+    HalMockMvc.builder(mockMvc)
+        .baseUri(BASE_URI)
+        .header(HttpHeaders.AUTHORIZATION, authorization)
+        .addExecutionInterceptor(interceptor)
+        .build()
+        .follow("next")
+        .templates()
+        .byKey("default")
+        .createForm()
+        .withString("choice", myController.optionValue)
+        .submit()
+        .andExpect(status().isNoContent());
+  }
+
+  @Controller
+  @RequestMapping(BASE_URI)
+  public static class MyController {
+
+    private final AtomicInteger indexCallCount = new AtomicInteger();
+    private final AtomicInteger formCallCount = new AtomicInteger();
+    private final AtomicInteger optionsCallCount = new AtomicInteger();
+    private final AtomicInteger submitCount = new AtomicInteger();
+    private String optionValue = "a";
+
+    private void reset() {
+      indexCallCount.set(0);
+      formCallCount.set(0);
+      optionsCallCount.set(0);
+      submitCount.set(0);
+      optionValue = "a";
+    }
+
+    @GetMapping
+    public ResponseEntity<?> index() {
+      indexCallCount.incrementAndGet();
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_FORMS_JSON)
+          .body(
+              """
+              {"_links": {"self": {"href": "http://localhost%1$s"}, "next": {"href": "http://localhost%1$s/form"}}}
+              """
+                  .formatted(BASE_URI));
+    }
+
+    @GetMapping("/form")
+    public ResponseEntity<?> form() {
+      formCallCount.incrementAndGet();
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_FORMS_JSON)
+          .body(
+              """
+              {
+                "_links": {"self": {"href": "http://localhost%1$s/form"}},
+                "_templates": {
+                  "default": {
+                    "method": "POST",
+                    "properties": [
+                      {"name": "choice", "options": {"link": {"href": "http://localhost%1$s/options"}}}
+                    ]
+                  }
+                }
+              }
+              """
+                  .formatted(BASE_URI));
+    }
+
+    @GetMapping("/options")
+    public ResponseEntity<?> options() {
+      optionsCallCount.incrementAndGet();
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_JSON)
+          .body("[\"%s\"]".formatted(optionValue));
+    }
+
+    @PostMapping("/form")
+    public ResponseEntity<?> submit() {
+      submitCount.incrementAndGet();
+      return ResponseEntity.noContent().build();
+    }
+  }
+}
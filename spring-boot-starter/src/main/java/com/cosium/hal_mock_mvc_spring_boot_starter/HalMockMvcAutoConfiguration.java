@@ -2,15 +2,22 @@ package com.cosium.hal_mock_mvc_spring_boot_starter;
 
 import com.cosium.hal_mock_mvc.HalMockMvc;
 import com.cosium.hal_mock_mvc.HalMockMvcBuilders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Optional;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.webmvc.test.autoconfigure.MockMvcAutoConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Auto-configuration for {@link com.cosium.hal_mock_mvc.HalMockMvc}.
@@ -22,11 +29,26 @@ import org.springframework.test.web.servlet.MockMvc;
 @ConditionalOnBean(MockMvc.class)
 public class HalMockMvcAutoConfiguration {
 
+  public static final String OBJECT_MAPPER_BEAN_NAME = "halMockMvcObjectMapper";
+  public static final String METER_REGISTRY_BEAN_NAME = "halMockMvcMeterRegistry";
+
+  /**
+   * The {@link ObjectMapper} shared by every {@link HalMockMvc} produced by the application
+   * context. It is not a default candidate so that it never competes with the application {@link
+   * ObjectMapper}.
+   */
+  @ConditionalOnMissingBean(name = OBJECT_MAPPER_BEAN_NAME)
+  @Bean(name = OBJECT_MAPPER_BEAN_NAME, defaultCandidate = false)
+  public ObjectMapper halMockMvcObjectMapper() {
+    return HalMockMvc.objectMapperBuilder().build();
+  }
+
   @ConditionalOnMissingBean
   @Bean
   public HalMockMvcBuildersFactory halMockMvcBuildersFactory(
-      @Nullable List<HalMockMvcBuilderCustomizer> customizers) {
-    return new HalMockMvcBuildersFactory(customizers);
+      @Nullable List<HalMockMvcBuilderCustomizer> customizers,
+      @Qualifier(OBJECT_MAPPER_BEAN_NAME) ObjectMapper objectMapper) {
+    return new HalMockMvcBuildersFactory(customizers, objectMapper);
   }
 
   @ConditionalOnMissingBean
@@ -50,4 +72,48 @@ public class HalMockMvcAutoConfiguration {
 
     return builder.build();
   }
+
+  /**
+   * Records the measurements of every {@link HalMockMvc} produced by the application context in a
+   * dedicated {@link SimpleMeterRegistry}, when Micrometer is on the classpath and {@code
+   * hal-mock-mvc.metrics.enabled} is {@code true}.
+   *
+   * @see MicrometerMetricsListener
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterRegistry.class)
+  @ConditionalOnBooleanProperty("hal-mock-mvc.metrics.enabled")
+  public static class MetricsConfiguration {
+
+    /**
+     * It is not a default candidate so that it never competes with the application {@link
+     * MeterRegistry}.
+     */
+    @ConditionalOnMissingBean(name = METER_REGISTRY_BEAN_NAME)
+    @Bean(name = METER_REGISTRY_BEAN_NAME, defaultCandidate = false)
+    public MeterRegistry halMockMvcMeterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public HalMockMvcBuilderCustomizer halMockMvcMetricsCustomizer(
+        @Qualifier(METER_REGISTRY_BEAN_NAME) MeterRegistry meterRegistry) {
+      return builder -> builder.addMetricsListener(new MicrometerMetricsListener(meterRegistry));
+    }
+  }
+
+  /**
+   * Feeds the report of {@link SlowHopReportExtension} with the requests of every {@link
+   * HalMockMvc} built while the extension is active.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "org.junit.jupiter.api.extension.Extension")
+  public static class SlowHopReportConfiguration {
+
+    @Bean
+    public HalMockMvcBuilderCustomizer halMockMvcSlowHopReportCustomizer() {
+      return builder ->
+          SlowHopReportExtension.activeReport().ifPresent(builder::addMetricsListener);
+    }
+  }
 }
@@ -4,7 +4,9 @@ import com.cosium.hal_mock_mvc.HalMockMvcBuilderFactory;
 import com.cosium.hal_mock_mvc.HalMockMvcBuilders;
 import java.util.List;
 import java.util.Optional;
+import org.jspecify.annotations.Nullable;
 import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * @author Réda Housni Alaoui
@@ -12,12 +14,20 @@ import org.springframework.test.web.servlet.MockMvc;
 public class HalMockMvcBuildersFactory {
 
   private final List<HalMockMvcBuilderCustomizer> customizers;
+  @Nullable private final ObjectMapper objectMapper;
 
   public HalMockMvcBuildersFactory(List<HalMockMvcBuilderCustomizer> customizers) {
+    this(customizers, null);
+  }
+
+  public HalMockMvcBuildersFactory(
+      List<HalMockMvcBuilderCustomizer> customizers, @Nullable ObjectMapper objectMapper) {
     this.customizers = Optional.ofNullable(customizers).map(List::copyOf).orElseGet(List::of);
+    this.objectMapper = objectMapper;
   }
 
   public HalMockMvcBuilders build(MockMvc mockMvc) {
-    return new CustomizableHalMockMvcBuilders(new HalMockMvcBuilderFactory(mockMvc), customizers);
+    return new CustomizableHalMockMvcBuilders(
+        new HalMockMvcBuilderFactory(mockMvc, objectMapper), customizers);
   }
 }
@@ -0,0 +1,60 @@
+package com.cosium.hal_mock_mvc_spring_boot_starter;
+
+import static java.util.Objects.requireNonNull;
+
+import com.cosium.hal_mock_mvc.MetricsListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the {@link MetricsListener.Measurement}s of a {@link com.cosium.hal_mock_mvc.HalMockMvc}
+ * in a {@link MeterRegistry}:
+ *
+ * <ul>
+ *   <li>{@value #DURATION_METER_NAME}, a timer of the measured durations
+ *   <li>{@value #BYTES_METER_NAME}, a distribution summary of the measured bytes
+ * </ul>
+ *
+ * Both meters are tagged with {@code phase}, {@code kind} and {@code tag}. The URI is not used as a
+ * tag to keep the cardinality bounded.
+ *
+ * @author Réda Housni Alaoui
+ */
+public class MicrometerMetricsListener implements MetricsListener {
+
+  public static final String DURATION_METER_NAME = "hal.mock.mvc.duration";
+  public static final String BYTES_METER_NAME = "hal.mock.mvc.bytes";
+
+  private static final String NONE = "none";
+
+  private final MeterRegistry meterRegistry;
+
+  public MicrometerMetricsListener(MeterRegistry meterRegistry) {
+    this.meterRegistry = requireNonNull(meterRegistry);
+  }
+
+  @Override
+  public void onMeasurement(Measurement measurement) {
+    Tags tags =
+        Tags.of(
+            "phase",
+            measurement.phase().name(),
+            "kind",
+            Optional.ofNullable(measurement.requestKind()).map(Enum::name).orElse(NONE),
+            "tag",
+            Optional.ofNullable(measurement.tag()).orElse(NONE));
+    Timer.builder(DURATION_METER_NAME)
+        .tags(tags)
+        .register(meterRegistry)
+        .record(measurement.durationNanos(), TimeUnit.NANOSECONDS);
+    DistributionSummary.builder(BYTES_METER_NAME)
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(measurement.bytes());
+  }
+}
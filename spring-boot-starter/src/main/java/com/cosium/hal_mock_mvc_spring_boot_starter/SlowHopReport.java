@@ -0,0 +1,172 @@
+package com.cosium.hal_mock_mvc_spring_boot_starter;
+
+import static java.util.Objects.requireNonNull;
+
+import com.cosium.hal_mock_mvc.LatencyHistogram;
+import com.cosium.hal_mock_mvc.MetricsListener;
+import com.cosium.hal_mock_mvc.RequestKind;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Aggregates the {@link MetricsListener.Phase#DISPATCH} measurements of any number of {@link
+ * com.cosium.hal_mock_mvc.HalMockMvc} into a ranking of the slowest relations, templates and
+ * endpoints. The templates ranking counts the submissions by template key, and the fetches of the
+ * templates of the final endpoints under {@code _templates}.
+ *
+ * <p>The percentiles are read from a {@link LatencyHistogram} per entry, and are therefore within
+ * 1/16th of the actual durations.
+ *
+ * <p>A relation fetch is redundant when the same URI was already fetched by a relation fetch of the
+ * same test. Tests are delimited by {@link #startTest()} and {@link #endTest()}, on the thread
+ * running the test.
+ *
+ * @author Réda Housni Alaoui
+ * @see SlowHopReportExtension
+ */
+public class SlowHopReport implements MetricsListener {
+
+  private static final String NONE = "none";
+  private static final String TEMPLATES_FETCH = "_templates";
+
+  private final Map<String, Statistics> relations = new ConcurrentHashMap<>();
+  private final Map<String, Statistics> templates = new ConcurrentHashMap<>();
+  private final Map<String, Statistics> endpoints = new ConcurrentHashMap<>();
+  private final ThreadLocal<Set<URI>> testFetchedUris = new ThreadLocal<>();
+
+  /** Starts counting the redundant relation fetches of the test running on the current thread */
+  public void startTest() {
+    testFetchedUris.set(new HashSet<>());
+  }
+
+  /** Stops counting the redundant relation fetches of the test running on the current thread */
+  public void endTest() {
+    testFetchedUris.remove();
+  }
+
+  @Override
+  public void onMeasurement(Measurement measurement) {
+    if (measurement.phase() != Phase.DISPATCH) {
+      return;
+    }
+    URI uri = measurement.uri();
+    boolean redundantFetch = false;
+    if (measurement.requestKind() == RequestKind.RELATION_FETCH) {
+      @Nullable Set<URI> fetchedUris = testFetchedUris.get();
+      redundantFetch = fetchedUris != null && !fetchedUris.add(uri);
+      statistics(relations, measurement.tag()).add(measurement.durationNanos(), redundantFetch);
+    } else if (measurement.requestKind() == RequestKind.TEMPLATE_SUBMISSION) {
+      statistics(templates, measurement.tag()).add(measurement.durationNanos(), false);
+    } else if (measurement.requestKind() == RequestKind.TEMPLATES_FETCH) {
+      statistics(templates, TEMPLATES_FETCH).add(measurement.durationNanos(), false);
+    }
+    String endpoint = Optional.ofNullable(uri.getRawPath()).orElseGet(uri::toString);
+    statistics(endpoints, endpoint).add(measurement.durationNanos(), redundantFetch);
+  }
+
+  private Statistics statistics(Map<String, Statistics> statisticsByName, @Nullable String name) {
+    return statisticsByName.computeIfAbsent(
+        Optional.ofNullable(name).orElse(NONE), key -> new Statistics());
+  }
+
+  /**
+   * @return The current state of the report
+   */
+  public Report snapshot() {
+    return new Report(rank(relations), rank(templates), rank(endpoints));
+  }
+
+  private List<Entry> rank(Map<String, Statistics> statisticsByName) {
+    return statisticsByName.entrySet().stream()
+        .map(entry -> entry.getValue().toEntry(entry.getKey()))
+        .sorted(Comparator.comparingDouble(Entry::totalMillis).reversed())
+        .toList();
+  }
+
+  /** Writes the current state of the report as JSON to the provided file */
+  public void write(Path file) throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    ObjectMapper objectMapper = JsonMapper.builder().build();
+    Files.writeString(
+        file, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(snapshot()));
+  }
+
+  /**
+   * @param relations The relation fetches, by relation names
+   * @param templates The template submissions, by template key, and the templates fetches, under
+   *     {@code _templates}
+   * @param endpoints Every dispatch, by URI path
+   */
+  public record Report(List<Entry> relations, List<Entry> templates, List<Entry> endpoints) {
+    public Report {
+      relations = List.copyOf(relations);
+      templates = List.copyOf(templates);
+      endpoints = List.copyOf(endpoints);
+    }
+  }
+
+  /**
+   * @param name The relation names, template key, {@code _templates} or URI path
+   * @param count The number of dispatches
+   * @param totalMillis The cumulated duration of the dispatches
+   * @param p50Millis The median duration of the dispatches
+   * @param p99Millis The 99th percentile of the duration of the dispatches
+   * @param redundantFetchCount The number of relation fetches of a URI already fetched by the same
+   *     test
+   */
+  public record Entry(
+      String name,
+      long count,
+      double totalMillis,
+      double p50Millis,
+      double p99Millis,
+      long redundantFetchCount) {
+    public Entry {
+      requireNonNull(name);
+    }
+  }
+
+  private static class Statistics {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long totalNanos;
+    private long redundantFetchCount;
+
+    synchronized void add(long durationNanos, boolean redundantFetch) {
+      histogram.record(durationNanos);
+      totalNanos += durationNanos;
+      if (redundantFetch) {
+        redundantFetchCount++;
+      }
+    }
+
+    synchronized Entry toEntry(String name) {
+      return new Entry(
+          name,
+          histogram.count(),
+          toMillis(totalNanos),
+          toMillis(histogram.percentile(50).toNanos()),
+          toMillis(histogram.percentile(99).toNanos()),
+          redundantFetchCount);
+    }
+
+    private static double toMillis(long nanos) {
+      return nanos / 1_000_000d;
+    }
+  }
+}
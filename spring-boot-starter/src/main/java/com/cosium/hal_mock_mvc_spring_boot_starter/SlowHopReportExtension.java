@@ -0,0 +1,89 @@
+package com.cosium.hal_mock_mvc_spring_boot_starter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * A JUnit Jupiter extension aggregating the requests of every {@link
+ * com.cosium.hal_mock_mvc.HalMockMvc} produced by the starter into a single {@link SlowHopReport}
+ * for the whole test run. The report is written as JSON once all tests have run, to {@value
+ * #DEFAULT_REPORT_FILE} or to the file set by the {@value #REPORT_FILE_PARAMETER} configuration
+ * parameter.
+ *
+ * <p>The report only sees the {@link com.cosium.hal_mock_mvc.HalMockMvc} built after the extension
+ * started. To cover the whole suite, register it globally through {@code
+ * META-INF/services/org.junit.jupiter.api.extension.Extension} and {@code
+ * junit.jupiter.extensions.autodetection.enabled=true}.
+ *
+ * @author Réda Housni Alaoui
+ */
+public class SlowHopReportExtension
+    implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+  public static final String REPORT_FILE_PARAMETER = "hal-mock-mvc.slow-hop-report.file";
+  public static final String DEFAULT_REPORT_FILE = "target/hal-mock-mvc-slow-hop-report.json";
+
+  private static final AtomicReference<@Nullable SlowHopReport> ACTIVE_REPORT =
+      new AtomicReference<>();
+
+  /**
+   * @return The report of the running test suite, if the extension is active
+   */
+  public static Optional<SlowHopReport> activeReport() {
+    return Optional.ofNullable(ACTIVE_REPORT.get());
+  }
+
+  @Override
+  public void beforeAll(ExtensionContext context) {
+    Path reportFile =
+        Path.of(
+            context.getConfigurationParameter(REPORT_FILE_PARAMETER).orElse(DEFAULT_REPORT_FILE));
+    context
+        .getRoot()
+        .getStore(ExtensionContext.Namespace.create(SlowHopReportExtension.class))
+        .computeIfAbsent(
+            ReportWriter.class, key -> new ReportWriter(reportFile), ReportWriter.class);
+  }
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    activeReport().ifPresent(SlowHopReport::startTest);
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    activeReport().ifPresent(SlowHopReport::endTest);
+  }
+
+  /** Activates a report until the end of the test run, then writes it */
+  private static class ReportWriter implements AutoCloseable {
+
+    private final SlowHopReport report = new SlowHopReport();
+    private final Path file;
+
+    private ReportWriter(Path file) {
+      this.file = requireNonNull(file);
+      ACTIVE_REPORT.set(report);
+    }
+
+    @Override
+    public void close() {
+      ACTIVE_REPORT.compareAndSet(report, null);
+      try {
+        report.write(file);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.cosium.hal_mock_mvc_spring_boot_starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.cosium.hal_mock_mvc.HalMockMvcBuilders;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+class MetricsTest {
+
+  private final WebApplicationContextRunner contextRunner =
+      new WebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(HalMockMvcAutoConfiguration.class))
+          .withUserConfiguration(MockMvcConfiguration.class);
+
+  @Test
+  @DisplayName("Measurements are recorded in a dedicated meter registry when metrics are enabled")
+  void test1() {
+    contextRunner
+        .withPropertyValues("hal-mock-mvc.metrics.enabled=true")
+        .run(
+            context -> {
+              context
+                  .getBean(HalMockMvcBuilders.class)
+                  .create()
+                  .baseUri("/metrics")
+                  .build()
+                  .follow("self")
+                  .get()
+                  .andExpect(status().isOk());
+
+              MeterRegistry meterRegistry =
+                  context.getBean(
+                      HalMockMvcAutoConfiguration.METER_REGISTRY_BEAN_NAME, MeterRegistry.class);
+              assertThat(
+                      meterRegistry
+                          .get(MicrometerMetricsListener.DURATION_METER_NAME)
+                          .tags("phase", "DISPATCH", "kind", "RELATION_FETCH", "tag", "self")
+                          .timer()
+                          .count())
+                  .isOne();
+              assertThat(
+                      meterRegistry
+                          .get(MicrometerMetricsListener.BYTES_METER_NAME)
+                          .tags("phase", "LINKS_PARSING", "kind", "none", "tag", "self")
+                          .summary()
+                          .totalAmount())
+                  .isEqualTo(MetricsController.BODY.length());
+            });
+  }
+
+  @Test
+  @DisplayName("Metrics are disabled by default")
+  void test2() {
+    contextRunner.run(
+        context ->
+            assertThat(context)
+                .doesNotHaveBean(HalMockMvcAutoConfiguration.METER_REGISTRY_BEAN_NAME));
+  }
+
+  @RestController
+  static class MetricsController {
+
+    private static final String BODY =
+        """
+        {"_links": {"self": {"href": "http://localhost/metrics"}}}""";
+
+    @GetMapping("/metrics")
+    ResponseEntity<String> get() {
+      return ResponseEntity.ok().contentType(MediaTypes.HAL_FORMS_JSON).body(BODY);
+    }
+  }
+
+  static class MockMvcConfiguration {
+    @Bean
+    MockMvc mockMvc() {
+      return MockMvcBuilders.standaloneSetup(new MetricsController()).build();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.cosium.hal_mock_mvc_spring_boot_starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+class ObjectMapperTest {
+
+  private final WebApplicationContextRunner contextRunner =
+      new WebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(HalMockMvcAutoConfiguration.class));
+
+  @Test
+  @DisplayName("The HalMockMvc ObjectMapper does not compete with the application ObjectMapper")
+  void test1() {
+    contextRunner
+        .withUserConfiguration(
+            MockMvcConfiguration.class, ApplicationObjectMapperConfiguration.class)
+        .run(
+            context -> {
+              assertThat(context)
+                  .getBean(HalMockMvcAutoConfiguration.OBJECT_MAPPER_BEAN_NAME)
+                  .isInstanceOf(ObjectMapper.class)
+                  .isNotSameAs(ApplicationObjectMapperConfiguration.OBJECT_MAPPER);
+              assertThat(context.getBean(ObjectMapper.class))
+                  .isSameAs(ApplicationObjectMapperConfiguration.OBJECT_MAPPER);
+            });
+  }
+
+  @Test
+  @DisplayName("Default HalMockMvc ObjectMapper backs off")
+  void test2() {
+    contextRunner
+        .withUserConfiguration(MockMvcConfiguration.class, ObjectMapperConfiguration.class)
+        .run(
+            context ->
+                assertThat(context)
+                    .getBean(HalMockMvcAutoConfiguration.OBJECT_MAPPER_BEAN_NAME)
+                    .isSameAs(ObjectMapperConfiguration.OBJECT_MAPPER));
+  }
+
+  static class ApplicationObjectMapperConfiguration {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    @Bean
+    ObjectMapper objectMapper() {
+      return OBJECT_MAPPER;
+    }
+  }
+
+  static class ObjectMapperConfiguration {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    @Bean(HalMockMvcAutoConfiguration.OBJECT_MAPPER_BEAN_NAME)
+    ObjectMapper halMockMvcObjectMapper() {
+      return OBJECT_MAPPER;
+    }
+  }
+
+  static class MockMvcConfiguration {
+    @Bean
+    MockMvc mockMvc() {
+      return MockMvcBuilders.standaloneSetup().build();
+    }
+  }
+}
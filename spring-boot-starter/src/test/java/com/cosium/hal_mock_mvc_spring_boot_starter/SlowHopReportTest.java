@@ -0,0 +1,156 @@
+package com.cosium.hal_mock_mvc_spring_boot_starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.cosium.hal_mock_mvc.HalMockMvc;
+import com.cosium.hal_mock_mvc.HalMockMvcBuilders;
+import com.cosium.hal_mock_mvc.MetricsListener;
+import com.cosium.hal_mock_mvc.RequestKind;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author Réda Housni Alaoui
+ */
+@ExtendWith(SlowHopReportExtension.class)
+class SlowHopReportTest {
+
+  private final WebApplicationContextRunner contextRunner =
+      new WebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(HalMockMvcAutoConfiguration.class))
+          .withUserConfiguration(MockMvcConfiguration.class);
+
+  @Test
+  @DisplayName("Entries are ranked by total duration with their percentiles")
+  void test1() {
+    SlowHopReport report = new SlowHopReport();
+    for (int i = 1; i <= 100; i++) {
+      report.onMeasurement(dispatch(RequestKind.RELATION_FETCH, "/fast", "fast", 1_000_000));
+      report.onMeasurement(dispatch(RequestKind.RELATION_FETCH, "/slow", "slow", i * 1_000_000L));
+    }
+    report.onMeasurement(dispatch(RequestKind.TEMPLATES_FETCH, "/slow", null, 2_000_000));
+    report.onMeasurement(dispatch(RequestKind.TEMPLATE_SUBMISSION, "/slow", "default", 1_000_000));
+    report.onMeasurement(
+        new MetricsListener.Measurement(
+            MetricsListener.Phase.LINKS_PARSING, null, URI.create("/slow"), "slow", 1_000_000, 0));
+
+    SlowHopReport.Report snapshot = report.snapshot();
+
+    assertThat(snapshot.relations())
+        .extracting(SlowHopReport.Entry::name, SlowHopReport.Entry::totalMillis)
+        .containsExactly(tuple("slow", 5050d), tuple("fast", 100d));
+    SlowHopReport.Entry slow = snapshot.relations().get(0);
+    assertThat(slow.count()).isEqualTo(100);
+    assertThat(slow.p50Millis()).isCloseTo(50, withinPercentage(100d / 16));
+    assertThat(slow.p99Millis()).isCloseTo(99, withinPercentage(100d / 16));
+    assertThat(snapshot.relations().get(1))
+        .isEqualTo(new SlowHopReport.Entry("fast", 100, 100, 1, 1, 0));
+    assertThat(snapshot.templates())
+        .containsExactly(
+            new SlowHopReport.Entry("_templates", 1, 2, 2, 2, 0),
+            new SlowHopReport.Entry("default", 1, 1, 1, 1, 0));
+    assertThat(snapshot.endpoints())
+        .extracting(SlowHopReport.Entry::name, SlowHopReport.Entry::count)
+        .containsExactly(tuple("/slow", 102L), tuple("/fast", 100L));
+  }
+
+  @Test
+  @DisplayName("Relation fetches of a URI already fetched by the same test are redundant")
+  void test2() {
+    SlowHopReport report = new SlowHopReport();
+    report.startTest();
+    report.onMeasurement(dispatch(RequestKind.RELATION_FETCH, "/a", "a", 1));
+    report.onMeasurement(dispatch(RequestKind.RELATION_FETCH, "/a", "a", 1));
+    report.onMeasurement(dispatch(RequestKind.USER_REQUEST, "/a", null, 1));
+    report.endTest();
+    report.startTest();
+    report.onMeasurement(dispatch(RequestKind.RELATION_FETCH, "/a", "a", 1));
+    report.endTest();
+
+    assertThat(report.snapshot().relations())
+        .singleElement()
+        .extracting(SlowHopReport.Entry::count, SlowHopReport.Entry::redundantFetchCount)
+        .containsExactly(3L, 1L);
+  }
+
+  @Test
+  @DisplayName("The report is written as JSON")
+  void test3(@TempDir Path directory) throws Exception {
+    SlowHopReport report = new SlowHopReport();
+    report.onMeasurement(dispatch(RequestKind.RELATION_FETCH, "/a", "a", 1_000_000));
+
+    Path file = directory.resolve("target").resolve("report.json");
+    report.write(file);
+
+    assertThat(Files.readString(file))
+        .contains("\"relations\"", "\"templates\"", "\"endpoints\"", "\"p99Millis\"");
+  }
+
+  @Test
+  @DisplayName("The extension feeds its report with the HalMockMvc requests")
+  void test4() {
+    assertThat(SlowHopReportExtension.activeReport()).isPresent();
+
+    contextRunner.run(
+        context -> {
+          HalMockMvc halMockMvc =
+              context
+                  .getBean(HalMockMvcBuilders.class)
+                  .create()
+                  .baseUri("/slow-hop-report")
+                  .build();
+          halMockMvc.follow("self").get().andExpect(status().isOk());
+          halMockMvc.follow("self").get().andExpect(status().isOk());
+        });
+
+    assertThat(SlowHopReportExtension.activeReport().orElseThrow().snapshot().endpoints())
+        .filteredOn(entry -> entry.name().equals("/slow-hop-report"))
+        .singleElement()
+        .extracting(SlowHopReport.Entry::count, SlowHopReport.Entry::redundantFetchCount)
+        .containsExactly(4L, 1L);
+  }
+
+  private static MetricsListener.Measurement dispatch(
+      RequestKind requestKind, String uri, @Nullable String tag, long durationNanos) {
+    return new MetricsListener.Measurement(
+        MetricsListener.Phase.DISPATCH, requestKind, URI.create(uri), tag, durationNanos, 0);
+  }
+
+  @RestController
+  static class SlowHopReportController {
+
+    @GetMapping("/slow-hop-report")
+    ResponseEntity<String> get() {
+      return ResponseEntity.ok()
+          .contentType(MediaTypes.HAL_FORMS_JSON)
+          .body(
+              """
+              {"_links": {"self": {"href": "http://localhost/slow-hop-report"}}}""");
+    }
+  }
+
+  static class MockMvcConfiguration {
+    @Bean
+    MockMvc mockMvc() {
+      return MockMvcBuilders.standaloneSetup(new SlowHopReportController()).build();
+    }
+  }
+}